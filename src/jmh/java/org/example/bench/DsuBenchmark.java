@@ -0,0 +1,70 @@
+package org.example.bench;
+
+import org.example.algo.DSU;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares DSU find/union strategy combinations on random and
+ * sequential union orders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DsuBenchmark {
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    @Param({"COMPRESSION", "HALVING", "SPLITTING"})
+    DSU.FindStrategy find;
+
+    @Param({"SIZE", "RANK"})
+    DSU.UnionStrategy union;
+
+    @Param({"random", "sequential"})
+    String order;
+
+    private int[] left;
+    private int[] right;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int ops = size * 2;
+        left = new int[ops];
+        right = new int[ops];
+
+        Random random = new Random(42);
+        for (int i = 0; i < ops; i++) {
+            if ("sequential".equals(order) && i < size - 1) {
+                // Merge vertices one at a time into a single growing set
+                left[i] = i + 1;
+                right[i] = 0;
+            } else {
+                left[i] = random.nextInt(size);
+                right[i] = random.nextInt(size);
+            }
+        }
+    }
+
+    @Benchmark
+    public void unionFind(Blackhole blackhole) {
+        DSU dsu = new DSU(size, find, union);
+        int merged = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (dsu.union(left[i], right[i])) {
+                merged++;
+            }
+        }
+        for (int i = 0; i < left.length; i++) {
+            blackhole.consume(dsu.find(left[i]));
+        }
+        blackhole.consume(merged);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.bench;
+
+import org.example.algo.Algorithm;
+import org.example.algo.Result;
+import org.example.gen.GraphGenerator;
+import org.example.model.CsrGraph;
+import org.example.util.Metrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalable engines selected by name on a prebuilt CSR graph, so only the
+ * MST computation itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class EngineBenchmark {
+
+    @Param({"kruskal", "kruskal-packed", "kruskal-radix", "filter-kruskal", "boruvka", "prim-heap", "prim-dheap"})
+    String engine;
+
+    @Param({"10000", "100000"})
+    int vertices;
+
+    @Param({"4", "32"})
+    int avgDegree;
+
+    private Algorithm algorithm;
+    private CsrGraph graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        algorithm = Algorithm.fromName(engine);
+        graph = new CsrGraph(GraphGenerator.toGraph(
+            sink -> new GraphGenerator(42, 1_000_000).multiComponent(vertices, 1, avgDegree, sink)));
+    }
+
+    @Benchmark
+    public Result computeMST() {
+        return algorithm.computeMST(graph, Metrics.noop());
+    }
+}
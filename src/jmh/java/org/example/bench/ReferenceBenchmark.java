@@ -0,0 +1,60 @@
+package org.example.bench;
+
+import org.example.MST;
+import org.example.algo.Kruskal;
+import org.example.algo.PrimSimple;
+import org.example.algo.Result;
+import org.example.gen.GraphGenerator;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The original engines (algo.PrimSimple, algo.Kruskal, MST.primSimple,
+ * MST.kruskal) on Graph input, including the CSR build each call does.
+ * Sizes stay small because the frontier-scan Prim is O(V·E).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReferenceBenchmark {
+
+    @Param({"200", "1000"})
+    int vertices;
+
+    @Param({"4", "32"})
+    int avgDegree;
+
+    private Graph graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphGenerator.toGraph(
+            sink -> new GraphGenerator(42, 1_000_000).multiComponent(vertices, 1, avgDegree, sink));
+    }
+
+    @Benchmark
+    public Result kruskal() {
+        return Kruskal.computeMST(graph, Metrics.noop());
+    }
+
+    @Benchmark
+    public Result primSimple() {
+        return PrimSimple.computeMST(graph, Metrics.noop());
+    }
+
+    @Benchmark
+    public MST.Result mstKruskal() {
+        return MST.kruskal(graph);
+    }
+
+    @Benchmark
+    public MST.Result mstPrimSimple() {
+        return MST.primSimple(graph);
+    }
+}
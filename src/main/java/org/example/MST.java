@@ -1,11 +1,31 @@
 package org.example;
 
-import com.google.gson.*;
+import org.example.algo.Algorithm;
+import org.example.algo.ExternalKruskal;
+import org.example.algo.Planner;
+import org.example.cache.GraphHash;
+import org.example.cache.ResultCache;
+import org.example.io.BinaryGraphReader;
+import org.example.io.GraphSource;
+import org.example.io.JsonGraphReader;
+import org.example.io.JsonIO;
+import org.example.io.JsonResultWriter;
+import org.example.io.MappedGraph;
+import org.example.model.CsrGraph;
 import org.example.model.Edge;
+import org.example.model.EdgeList;
 import org.example.model.Graph;
+import org.example.util.Measurement;
+import org.example.util.Metrics;
+import org.example.util.Timed;
+import org.example.util.Timer;
 
 import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
 
 /**
  * MST (Minimum Spanning Tree) - Complete implementation.
@@ -45,11 +65,20 @@ public class MST {
         }
 
         public int find(int x) {
+            // Iterative two-pass compression; counts one operation per node
+            // on the path, same as the former recursive version.
+            int root = x;
             operations++;
-            if (parent[x] != x) {
-                parent[x] = find(parent[x]);
+            while (parent[root] != root) {
+                root = parent[root];
+                operations++;
+            }
+            while (parent[x] != root) {
+                int next = parent[x];
+                parent[x] = root;
+                x = next;
             }
-            return parent[x];
+            return root;
         }
 
         public boolean union(int x, int y) {
@@ -79,19 +108,16 @@ public class MST {
     // ==================== ALGORITHMS ====================
 
     public static Result primSimple(Graph graph) {
+        return primSimple(new CsrGraph(graph));
+    }
+
+    public static Result primSimple(CsrGraph graph) {
         int n = graph.getNodeCount();
         if (n == 0) {
             return new Result(new ArrayList<>(), 0, 0);
         }
 
-        List<String> nodes = graph.getNodes();
-        List<Edge> edges = graph.getEdges();
-
-        Map<String, Integer> nodeIndex = new HashMap<>();
-        for (int i = 0; i < n; i++) {
-            nodeIndex.put(nodes.get(i), i);
-        }
-
+        int m = graph.getEdgeCount();
         boolean[] visited = new boolean[n];
         List<Edge> mstEdges = new ArrayList<>();
         int totalCost = 0;
@@ -106,41 +132,38 @@ public class MST {
 
             // Keep adding edges until no more edges can be found for this component
             while (true) {
-                Edge minEdge = null;
+                int minEdge = -1;
                 int minWeight = Integer.MAX_VALUE;
 
                 // Find minimum edge connecting visited to unvisited vertices
-                for (Edge e : edges) {
+                for (int e = 0; e < m; e++) {
                     operations++;
 
-                    int uIdx = nodeIndex.get(e.u);
-                    int vIdx = nodeIndex.get(e.v);
-
-                    boolean uVisited = visited[uIdx];
-                    boolean vVisited = visited[vIdx];
+                    boolean uVisited = visited[graph.edgeU(e)];
+                    boolean vVisited = visited[graph.edgeV(e)];
 
                     // Skip if both visited or both unvisited
-                    if (uVisited && vVisited) continue;
-                    if (!uVisited && !vVisited) continue;
+                    if (uVisited == vVisited) continue;
 
                     // Found a frontier edge
-                    if (e.w < minWeight) {
-                        minWeight = e.w;
+                    int w = graph.edgeWeight(e);
+                    if (minEdge == -1 || w < minWeight) {
+                        minWeight = w;
                         minEdge = e;
                     }
                 }
 
                 // No more edges to this component
-                if (minEdge == null) break;
+                if (minEdge == -1) break;
 
                 // Add edge to MST
-                mstEdges.add(minEdge);
+                mstEdges.add(graph.getEdge(minEdge));
                 totalCost += minWeight;
                 operations++;
 
                 // Mark new vertex as visited
-                int uIdx = nodeIndex.get(minEdge.u);
-                int vIdx = nodeIndex.get(minEdge.v);
+                int uIdx = graph.edgeU(minEdge);
+                int vIdx = graph.edgeV(minEdge);
 
                 if (!visited[uIdx]) {
                     visited[uIdx] = true;
@@ -154,38 +177,38 @@ public class MST {
     }
 
     public static Result kruskal(Graph graph) {
+        return kruskal(new CsrGraph(graph));
+    }
+
+    public static Result kruskal(CsrGraph graph) {
         int n = graph.getNodeCount();
         if (n == 0) {
             return new Result(new ArrayList<>(), 0, 0);
         }
 
-        List<String> nodes = graph.getNodes();
-        List<Edge> edges = graph.getEdges();
-
-        Map<String, Integer> nodeIndex = new HashMap<>();
-        for (int i = 0; i < n; i++) {
-            nodeIndex.put(nodes.get(i), i);
+        int m = graph.getEdgeCount();
+        // Weight in the high half, edge id in the low half: a primitive sort
+        // gives the same (weight, edge id) order as a stable sort by weight
+        long[] sortedKeys = new long[m];
+        for (int e = 0; e < m; e++) {
+            sortedKeys[e] = ((long) graph.edgeWeight(e) << 32) | e;
         }
-
-        List<Edge> sortedEdges = new ArrayList<>(edges);
-        sortedEdges.sort(Comparator.comparingInt(e -> e.w));
-        long sortOps = edges.size();
+        Arrays.sort(sortedKeys);
+        long sortOps = m;
 
         DSU dsu = new DSU(n);
         List<Edge> mstEdges = new ArrayList<>();
         int totalCost = 0;
 
-        for (Edge e : sortedEdges) {
-            int u = nodeIndex.get(e.u);
-            int v = nodeIndex.get(e.v);
-
-            int rootU = dsu.find(u);
-            int rootV = dsu.find(v);
+        for (long key : sortedKeys) {
+            int e = (int) key;
+            int rootU = dsu.find(graph.edgeU(e));
+            int rootV = dsu.find(graph.edgeV(e));
 
             if (rootU != rootV) {
                 dsu.union(rootU, rootV);
-                mstEdges.add(e);
-                totalCost += e.w;
+                mstEdges.add(graph.getEdge(e));
+                totalCost += graph.edgeWeight(e);
             }
         }
 
@@ -195,87 +218,47 @@ public class MST {
     // ==================== JSON I/O ====================
 
     public static List<GraphInput> readJSON(String path) throws IOException {
-        try (FileReader reader = new FileReader(path)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
-            JsonArray graphsArray = root.getAsJsonArray("graphs");
-
+        try (JsonGraphReader reader = new JsonGraphReader(path)) {
             List<GraphInput> inputs = new ArrayList<>();
-            for (JsonElement graphElem : graphsArray) {
-                JsonObject graphObj = graphElem.getAsJsonObject();
-
-                String graphId = graphObj.get("id").getAsString();
-
-                List<String> nodes = new ArrayList<>();
-                JsonArray nodesArray = graphObj.getAsJsonArray("nodes");
-                for (JsonElement nodeElem : nodesArray) {
-                    nodes.add(nodeElem.getAsString());
-                }
-
-                List<Edge> edges = new ArrayList<>();
-                JsonArray edgesArray = graphObj.getAsJsonArray("edges");
-                for (JsonElement edgeElem : edgesArray) {
-                    JsonObject edgeObj = edgeElem.getAsJsonObject();
-                    String from = edgeObj.get("from").getAsString();
-                    String to = edgeObj.get("to").getAsString();
-                    int weight = edgeObj.get("weight").getAsInt();
-                    edges.add(new Edge(from, to, weight));
-                }
-
-                inputs.add(new GraphInput(graphId, new Graph(nodes, edges)));
+            while (reader.hasNext()) {
+                inputs.add(toGraphInput(reader.next()));
             }
-
             return inputs;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
-    public static void writeJSON(String path, List<OutputRecord> records) throws IOException {
-        JsonObject root = new JsonObject();
-        JsonArray resultsArray = new JsonArray();
-
-        for (OutputRecord record : records) {
-            JsonObject graphResult = new JsonObject();
-            graphResult.addProperty("graph_id", record.graphId);
-
-            JsonObject inputStats = new JsonObject();
-            inputStats.addProperty("vertices", record.vertexCount);
-            inputStats.addProperty("edges", record.edgeCount);
-            graphResult.add("input_stats", inputStats);
-
-            JsonObject primResult = new JsonObject();
-            primResult.add("mst_edges", edgesToJson(record.primResult.mstEdges));
-            primResult.addProperty("total_cost", record.primResult.totalCost);
-            primResult.addProperty("operations_count", record.primResult.operationsCount);
-            primResult.addProperty("execution_time_ms", record.primTimeMs);
-            graphResult.add("prim", primResult);
-
-            JsonObject kruskalResult = new JsonObject();
-            kruskalResult.add("mst_edges", edgesToJson(record.kruskalResult.mstEdges));
-            kruskalResult.addProperty("total_cost", record.kruskalResult.totalCost);
-            kruskalResult.addProperty("operations_count", record.kruskalResult.operationsCount);
-            kruskalResult.addProperty("execution_time_ms", record.kruskalTimeMs);
-            graphResult.add("kruskal", kruskalResult);
-
-            resultsArray.add(graphResult);
-        }
-
-        root.add("results", resultsArray);
+    private static GraphInput toGraphInput(JsonIO.InputGraph parsed) {
+        return new GraphInput(parsed.id, parsed.graph);
+    }
 
-        try (FileWriter writer = new FileWriter(path)) {
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            gson.toJson(root, writer);
+    public static void writeJSON(String path, List<OutputRecord> records) throws IOException {
+        try (JsonResultWriter writer = new JsonResultWriter(path, true)) {
+            for (OutputRecord record : records) {
+                writeRecord(writer, record);
+            }
+            writer.finish();
         }
     }
 
-    private static JsonArray edgesToJson(List<Edge> edges) {
-        JsonArray array = new JsonArray();
-        for (Edge edge : edges) {
-            JsonObject edgeObj = new JsonObject();
-            edgeObj.addProperty("from", edge.u);
-            edgeObj.addProperty("to", edge.v);
-            edgeObj.addProperty("weight", edge.w);
-            array.add(edgeObj);
+    private static void writeRecord(JsonResultWriter writer, OutputRecord record) throws IOException {
+        writer.beginRecord(record.graphId, record.vertexCount, record.edgeCount);
+        if (record.cached) {
+            writer.writeCached();
+        }
+        if (record.engine != null) {
+            writer.writeEngine(record.engine);
+            writer.writeAlgorithm(RESULT_KEY, record.result.mstEdges, record.result.totalCost,
+                record.result.operationsCount, record.timeMs, record.timing);
+            writer.endRecord();
+            return;
         }
-        return array;
+        writer.writeAlgorithm("prim", record.primResult.mstEdges, record.primResult.totalCost,
+            record.primResult.operationsCount, record.primTimeMs, record.primTiming);
+        writer.writeAlgorithm("kruskal", record.kruskalResult.mstEdges, record.kruskalResult.totalCost,
+            record.kruskalResult.operationsCount, record.kruskalTimeMs, record.kruskalTiming);
+        writer.endRecord();
     }
 
     // ==================== HELPER CLASSES ====================
@@ -283,11 +266,22 @@ public class MST {
     public static class GraphInput {
         final String id;
         final Graph graph;
+        private String contentHash;
 
         public GraphInput(String id, Graph graph) {
             this.id = id;
             this.graph = graph;
         }
+
+        /**
+         * Canonical content hash of the graph, computed on first use.
+         */
+        String contentHash() {
+            if (contentHash == null) {
+                contentHash = GraphHash.of(graph);
+            }
+            return contentHash;
+        }
     }
 
     public static class OutputRecord {
@@ -298,10 +292,43 @@ public class MST {
         final Result kruskalResult;
         final double primTimeMs;
         final double kruskalTimeMs;
+        final Measurement primTiming;
+        final Measurement kruskalTiming;
+        final String engine;   // Single-engine record when set; prim/kruskal fields are then unused
+        final Result result;
+        final double timeMs;
+        final Measurement timing;
+        transient boolean cached;   // Reused from the result cache; its timings are from the stored run
 
         public OutputRecord(String graphId, int vertexCount, int edgeCount,
                           Result primResult, Result kruskalResult,
                           double primTimeMs, double kruskalTimeMs) {
+            this(graphId, vertexCount, edgeCount, primResult, kruskalResult,
+                primTimeMs, kruskalTimeMs, null, null, null, null, 0, null);
+        }
+
+        public OutputRecord(String graphId, int vertexCount, int edgeCount,
+                          Result primResult, Result kruskalResult,
+                          Measurement primTiming, Measurement kruskalTiming) {
+            this(graphId, vertexCount, edgeCount, primResult, kruskalResult,
+                roundedMedian(primTiming), roundedMedian(kruskalTiming), primTiming, kruskalTiming,
+                null, null, 0, null);
+        }
+
+        /**
+         * Record for one engine (the --algo modes): only its result and timing.
+         */
+        public OutputRecord(String graphId, int vertexCount, int edgeCount,
+                          String engine, Result result, Measurement timing) {
+            this(graphId, vertexCount, edgeCount, null, null, 0, 0, null, null,
+                engine, result, roundedMedian(timing), timing);
+        }
+
+        private OutputRecord(String graphId, int vertexCount, int edgeCount,
+                           Result primResult, Result kruskalResult,
+                           double primTimeMs, double kruskalTimeMs,
+                           Measurement primTiming, Measurement kruskalTiming,
+                           String engine, Result result, double timeMs, Measurement timing) {
             this.graphId = graphId;
             this.vertexCount = vertexCount;
             this.edgeCount = edgeCount;
@@ -309,80 +336,437 @@ public class MST {
             this.kruskalResult = kruskalResult;
             this.primTimeMs = primTimeMs;
             this.kruskalTimeMs = kruskalTimeMs;
+            this.primTiming = primTiming;
+            this.kruskalTiming = kruskalTiming;
+            this.engine = engine;
+            this.result = result;
+            this.timeMs = timeMs;
+            this.timing = timing;
+        }
+
+        /**
+         * Same results and timings reported under another graph id, marked
+         * as served from the cache.
+         */
+        OutputRecord cachedAs(String id) {
+            OutputRecord copy = new OutputRecord(id, vertexCount, edgeCount, primResult, kruskalResult,
+                primTimeMs, kruskalTimeMs, primTiming, kruskalTiming, engine, result, timeMs, timing);
+            copy.cached = true;
+            return copy;
+        }
+
+        /**
+         * Whether the record carries measured timings (untimed records report 0).
+         */
+        boolean isTimed() {
+            return engine != null ? timing != null : primTiming != null;
+        }
+
+        private static double roundedMedian(Measurement timing) {
+            return timing == null ? 0 : Math.round(timing.getMedianMs() * 100.0) / 100.0;
         }
     }
 
     // ==================== TIMING ====================
 
     public static double measureMedian(Runnable task, int runs) {
-        List<Long> times = new ArrayList<>();
-        for (int i = 0; i < runs; i++) {
+        return Timer.measureMedian(task, runs);
+    }
+
+    // ==================== BATCH PROCESSING ====================
+
+    /**
+     * Run both algorithms on one graph. When timed, each algorithm runs
+     * `warmup` untimed times and then `runs` measured times; the reported
+     * result is the one the measured runs produced (they must all agree), so
+     * no extra run is needed. Untimed, each algorithm runs once. The CSR
+     * form is built once up front, so timings cover only the algorithms.
+     */
+    public static OutputRecord processGraph(GraphInput input, int warmup, int runs, boolean timed) {
+        CsrGraph graph = new CsrGraph(input.graph);
+
+        if (!timed) {
+            return new OutputRecord(
+                input.id, graph.getNodeCount(), graph.getEdgeCount(),
+                primSimple(graph), kruskal(graph), null, null
+            );
+        }
+
+        Timed<Result> prim = Timer.measure(() -> primSimple(graph), warmup, runs, MST::sameResult);
+        Timed<Result> kruskal = Timer.measure(() -> kruskal(graph), warmup, runs, MST::sameResult);
+
+        return new OutputRecord(
+            input.id, graph.getNodeCount(), graph.getEdgeCount(),
+            prim.getResult(), kruskal.getResult(), prim.getMeasurement(), kruskal.getMeasurement()
+        );
+    }
+
+    /**
+     * Run one engine on a graph: the named one, or for "auto" whichever the
+     * Planner picks from the graph's shape. A null name runs processGraph's
+     * prim/kruskal comparison instead.
+     */
+    public static OutputRecord processGraph(GraphInput input, String algoName,
+                                            int warmup, int runs, boolean timed) {
+        if (algoName == null) {
+            return processGraph(input, warmup, runs, timed);
+        }
+
+        CsrGraph csr = new CsrGraph(input.graph);
+        Algorithm engine = AUTO.equals(algoName) ? Planner.plan(csr).getAlgorithm() : Algorithm.fromName(algoName);
+
+        if (!timed) {
+            return new OutputRecord(input.id, csr.getNodeCount(), csr.getEdgeCount(),
+                engine.getDisplayName(), runEngine(engine, csr), null);
+        }
+
+        // Parallel engines may pick equal-weight edges in any order; their op counts are not compared
+        boolean compareOps = !engine.isParallel();
+        Timed<Result> run = Timer.measure(() -> runEngine(engine, csr), warmup, runs,
+            (a, b) -> sameResult(a, b, compareOps));
+        return new OutputRecord(input.id, csr.getNodeCount(), csr.getEdgeCount(),
+            engine.getDisplayName(), run.getResult(), run.getMeasurement());
+    }
+
+    /**
+     * One engine run, with its operation count (plain counters, or striped
+     * concurrent ones for engines that count from several threads).
+     */
+    private static Result runEngine(Algorithm engine, CsrGraph csr) {
+        Metrics metrics = engine.isParallel() ? Metrics.concurrent() : Metrics.plain();
+        org.example.algo.Result result = engine.computeMST(csr, metrics);
+        return new Result(result.getMstEdges(), result.getTotalCost(), metrics.get());
+    }
+
+    /**
+     * Whether two runs of a deterministic algorithm produced the same output.
+     */
+    static boolean sameResult(Result a, Result b) {
+        return sameResult(a, b, true);
+    }
+
+    /**
+     * Same cost, the same multiset of edges in any order, and optionally the
+     * same operation count.
+     */
+    static boolean sameResult(Result a, Result b, boolean compareOperations) {
+        return a.totalCost == b.totalCost
+            && (!compareOperations || a.operationsCount == b.operationsCount)
+            && sameEdges(a.mstEdges, b.mstEdges);
+    }
+
+    private static boolean sameEdges(List<Edge> a, List<Edge> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        for (Edge edge : a) {
+            counts.merge(edgeKey(edge), 1, Integer::sum);
+        }
+        for (Edge edge : b) {
+            if (counts.merge(edgeKey(edge), -1, Integer::sum) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Endpoint order does not matter: u-v and v-u are the same edge.
+     */
+    private static String edgeKey(Edge edge) {
+        boolean swap = edge.u.compareTo(edge.v) > 0;
+        return (swap ? edge.v : edge.u) + '\0' + (swap ? edge.u : edge.v) + '\0' + edge.w;
+    }
+
+    /**
+     * Fill in timings for a record whose results were computed untimed.
+     * The timed runs' results replace the untimed ones after checking they agree.
+     */
+    private static OutputRecord withTimings(GraphInput input, OutputRecord record, int warmup, int runs) {
+        OutputRecord timed = processGraph(input, record.engine, warmup, runs, true);
+
+        boolean agree = record.engine != null
+            ? sameResult(record.result, timed.result, !Algorithm.fromName(record.engine).isParallel())
+            : sameResult(record.primResult, timed.primResult) && sameResult(record.kruskalResult, timed.kruskalResult);
+        if (!agree) {
+            throw new IllegalStateException("Timed runs of graph " + record.graphId + " disagree with its result");
+        }
+        return timed;
+    }
+
+    /**
+     * processGraph behind a result cache (may be null). A graph whose content
+     * was seen before reuses the stored results and timings under its own id,
+     * and its record is marked as cached.
+     * Only timed records are stored; untimed ones go in after withTimings.
+     */
+    private static OutputRecord processCached(ResultCache<OutputRecord> cache, GraphInput input, String algoName,
+                                              int warmup, int runs, boolean timed) throws IOException {
+        if (cache == null) {
+            return processGraph(input, algoName, warmup, runs, timed);
+        }
+        OutputRecord cached = cache.get(cacheKey(input, algoName, warmup, runs));
+        if (cached != null) {
+            return cached.cachedAs(input.id);
+        }
+        OutputRecord record = processGraph(input, algoName, warmup, runs, timed);
+        if (timed) {
+            cache.put(cacheKey(input, algoName, warmup, runs), record);
+        }
+        return record;
+    }
+
+    /**
+     * Content hash plus the timing setup, since stored records carry timings,
+     * suffixed with the engine selection in single-engine modes.
+     */
+    private static String cacheKey(GraphInput input, String algoName, int warmup, int runs) {
+        String key = input.contentHash() + "-w" + warmup + "-r" + runs;
+        return algoName == null ? key : key + "-" + algoName;
+    }
+
+    /**
+     * Process graphs on a thread pool while emitting records in input order.
+     * At most `window` graphs are parsed ahead of the oldest unfinished one.
+     * With serialTiming, results are computed in parallel but every timing
+     * run happens on the calling thread after its batch has finished, so
+     * measurements never compete with worker threads.
+     */
+    static int processParallel(Iterator<JsonIO.InputGraph> inputs, JsonResultWriter writer,
+                              String algoName, int warmup, int runs, int threads,
+                              boolean serialTiming, ResultCache<OutputRecord> cache) throws IOException {
+        int window = threads * 2;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        int processed = 0;
+
+        try {
+            Deque<GraphInput> batchInputs = new ArrayDeque<>();
+            Deque<Future<OutputRecord>> pending = new ArrayDeque<>();
+
+            while (inputs.hasNext() || !pending.isEmpty()) {
+                // Keep the window full
+                while (inputs.hasNext() && pending.size() < window) {
+                    GraphInput input = toGraphInput(inputs.next());
+                    batchInputs.add(input);
+                    pending.add(pool.submit(() -> processCached(cache, input, algoName, warmup, runs, !serialTiming)));
+                }
+
+                if (serialTiming) {
+                    // Drain the whole batch before timing anything
+                    List<OutputRecord> batch = new ArrayList<>();
+                    for (Future<OutputRecord> future : pending) {
+                        batch.add(await(future));
+                    }
+                    pending.clear();
+                    for (OutputRecord record : batch) {
+                        GraphInput input = batchInputs.poll();
+                        if (!record.isTimed()) {
+                            record = withTimings(input, record, warmup, runs);
+                            if (cache != null) {
+                                cache.put(cacheKey(input, algoName, warmup, runs), record);
+                            }
+                        }
+                        emit(writer, record);
+                        processed++;
+                    }
+                } else {
+                    // Emit the oldest graph as soon as it is done
+                    batchInputs.poll();
+                    emit(writer, await(pending.poll()));
+                    processed++;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return processed;
+    }
+
+    private static OutputRecord await(Future<OutputRecord> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for graph results");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void emit(JsonResultWriter writer, OutputRecord record) throws IOException {
+        if (record.engine != null) {
+            System.out.printf("%-10s %-10s | %-12d | %-10.2f | %-10d%n", "G" + record.graphId, record.engine,
+                record.result.operationsCount, record.timeMs, record.result.totalCost);
+            writeRecord(writer, record);
+            return;
+        }
+
+        Result primResult = record.primResult;
+        Result kruskalResult = record.kruskalResult;
+
+        System.out.printf("%-10s %-10s | %-12d | %-10.2f | %-10d%n",
+            "G" + record.graphId, "prim", primResult.operationsCount, record.primTimeMs, primResult.totalCost);
+        System.out.printf("%-10s %-10s | %-12d | %-10.2f | %-10d%n",
+            "", "kruskal", kruskalResult.operationsCount, record.kruskalTimeMs, kruskalResult.totalCost);
+
+        if (primResult.totalCost == kruskalResult.totalCost) {
+            System.out.println("  ✓ Both algorithms agree on MST cost: " + primResult.totalCost);
+        } else {
+            System.err.println("  ✗ ERROR: Different costs!");
+        }
+        System.out.println();
+
+        // Append as soon as computed; nothing accumulates across graphs
+        writeRecord(writer, record);
+    }
+
+    // ==================== EXTERNAL MODE ====================
+
+    /**
+     * Out-of-core Kruskal over every graph in the source. Binary sections
+     * are read straight from the mapping and JSON graphs through their CSR
+     * form; accepted edges stream to the writer as they are found, so no
+     * result list is built. Each graph runs once (no warmup or repeats).
+     */
+    static int processExternal(GraphSource reader, JsonResultWriter writer, Path tempDir) throws IOException {
+        int processed = 0;
+        while (reader.hasNext()) {
+            String graphId;
+            EdgeList edges;
+            IntFunction<String> names;
+            if (reader instanceof BinaryGraphReader) {
+                MappedGraph mapped = ((BinaryGraphReader) reader).nextMapped();
+                graphId = mapped.getId();
+                edges = mapped;
+                names = mapped::vertexName;
+            } else {
+                JsonIO.InputGraph parsed = reader.next();
+                CsrGraph csr = new CsrGraph(parsed.graph);
+                graphId = parsed.id;
+                edges = csr;
+                names = csr::getNodeName;
+            }
+
+            writer.beginRecord(graphId, edges.getNodeCount(), edges.getEdgeCount());
+            writer.writeEngine(EXTERNAL);
+            writer.beginAlgorithm(RESULT_KEY);
+
+            Metrics metrics = Metrics.plain();
             long start = System.nanoTime();
-            task.run();
-            long end = System.nanoTime();
-            times.add(end - start);
+            ExternalKruskal.Summary summary = ExternalKruskal.computeMST(edges, tempDir,
+                (e, u, v, w) -> writer.writeEdge(names.apply(u), names.apply(v), w), metrics);
+            double timeMs = (System.nanoTime() - start) / 1_000_000.0;
+
+            writer.endAlgorithm(summary.getTotalCost(), metrics.get(), timeMs, null);
+            writer.endRecord();
+
+            System.out.printf("%-10s %-10s | %-12d | %-10.2f | %-10d%n", "G" + graphId, EXTERNAL,
+                metrics.get(), timeMs, summary.getTotalCost());
+            processed++;
         }
-        Collections.sort(times);
-        return times.get(runs / 2) / 1_000_000.0;
+        return processed;
     }
 
     // ==================== MAIN ====================
 
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    private static final String AUTO = "auto";
+    private static final String EXTERNAL = "external";
+    /** Key of the result object in single-engine records; "engine" names who produced it. */
+    private static final String RESULT_KEY = "result";
+
     public static void main(String[] args) {
         String inputPath = "input_example.json";
         String outputPath = "output.json";
         int runs = 5;
+        int warmup = -1;
+        boolean pretty = true;
+        int parallel = 1;
+        boolean serialTiming = false;
+        int cacheSize = -1;
+        String cacheDir = null;
+        String algoName = null;
+        String tempDir = System.getProperty("java.io.tmpdir");
 
         for (int i = 0; i < args.length; i++) {
             if ("--in".equals(args[i]) && i + 1 < args.length) inputPath = args[++i];
             else if ("--out".equals(args[i]) && i + 1 < args.length) outputPath = args[++i];
             else if ("--runs".equals(args[i]) && i + 1 < args.length) runs = Integer.parseInt(args[++i]);
+            else if ("--warmup".equals(args[i]) && i + 1 < args.length) warmup = Integer.parseInt(args[++i]);
+            else if ("--compact".equals(args[i])) pretty = false;
+            else if ("--parallel".equals(args[i]) && i + 1 < args.length) parallel = Integer.parseInt(args[++i]);
+            else if ("--serial-timing".equals(args[i])) serialTiming = true;
+            else if ("--cache".equals(args[i]) && i + 1 < args.length) cacheSize = Integer.parseInt(args[++i]);
+            else if ("--cache-dir".equals(args[i]) && i + 1 < args.length) cacheDir = args[++i];
+            else if ("--algo".equals(args[i]) && i + 1 < args.length) algoName = args[++i].toLowerCase();
+            else if ("--temp-dir".equals(args[i]) && i + 1 < args.length) tempDir = args[++i];
         }
 
-        try {
-            List<GraphInput> inputs = readJSON(inputPath);
-            List<OutputRecord> outputs = new ArrayList<>();
-
-            System.out.println("Processing " + inputs.size() + " graph(s)...\n");
-            System.out.printf("%-10s %-10s | %-12s | %-10s | %-10s%n",
-                "Graph", "Algorithm", "Operations", "Time(ms)", "Total Cost");
-            System.out.println("-".repeat(70));
+        // --runs 1 is production mode: a single run yields both the result and its time
+        if (warmup < 0) {
+            warmup = runs == 1 ? 0 : 1;
+        }
 
-            for (GraphInput input : inputs) {
-                Graph graph = input.graph;
+        // No --algo (or "compare") runs both prim and kruskal; otherwise one engine per graph
+        if ("compare".equals(algoName)) {
+            algoName = null;
+        } else if (algoName != null && !AUTO.equals(algoName) && !EXTERNAL.equals(algoName)) {
+            try {
+                algoName = Algorithm.fromName(algoName).getDisplayName();
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error: " + e.getMessage());
+                System.exit(1);
+            }
+        }
 
-                double primTime = measureMedian(() -> primSimple(graph), runs);
-                Result primResult = primSimple(graph);
+        if (parallel <= 0) {
+            parallel = Runtime.getRuntime().availableProcessors();
+        }
 
-                double kruskalTime = measureMedian(() -> kruskal(graph), runs);
-                Result kruskalResult = kruskal(graph);
+        // JSON or binary graph file, detected by its leading bytes
+        try (GraphSource reader = GraphSource.open(inputPath);
+             JsonResultWriter writer = new JsonResultWriter(outputPath, pretty)) {
 
-                OutputRecord record = new OutputRecord(
-                    input.id, graph.getNodeCount(), graph.getEdgeCount(),
-                    primResult, kruskalResult,
-                    Math.round(primTime * 100.0) / 100.0,
-                    Math.round(kruskalTime * 100.0) / 100.0
-                );
+            // Content-addressed result cache, enabled by --cache and/or --cache-dir
+            ResultCache<OutputRecord> cache = null;
+            if (cacheSize >= 0 || cacheDir != null) {
+                cache = new ResultCache<>(cacheSize >= 0 ? cacheSize : DEFAULT_CACHE_SIZE,
+                    cacheDir != null ? Paths.get(cacheDir) : null, OutputRecord.class);
+            }
 
-                System.out.printf("%-10s %-10s | %-12d | %-10.2f | %-10d%n",
-                    "G" + input.id, "prim", primResult.operationsCount, record.primTimeMs, primResult.totalCost);
-                System.out.printf("%-10s %-10s | %-12d | %-10.2f | %-10d%n",
-                    "", "kruskal", kruskalResult.operationsCount, record.kruskalTimeMs, kruskalResult.totalCost);
+            System.out.println("Processing graphs from " + inputPath
+                + (parallel > 1 ? " on " + parallel + " threads" : "") + "...\n");
+            System.out.printf("%-10s %-10s | %-12s | %-10s | %-10s%n",
+                "Graph", "Algorithm", "Operations", "Time(ms)", "Total Cost");
+            System.out.println("-".repeat(70));
 
-                if (primResult.totalCost == kruskalResult.totalCost) {
-                    System.out.println("  ✓ Both algorithms agree on MST cost: " + primResult.totalCost);
-                } else {
-                    System.err.println("  ✗ ERROR: Different costs!");
+            int processed;
+            if (EXTERNAL.equals(algoName)) {
+                // Sorted runs spill to --temp-dir; --parallel, --runs and the cache do not apply
+                processed = processExternal(reader, writer, Paths.get(tempDir));
+            } else if (parallel > 1) {
+                processed = processParallel(reader, writer, algoName, warmup, runs, parallel, serialTiming, cache);
+            } else {
+                processed = 0;
+                // Each graph is parsed only when the previous one is done
+                while (reader.hasNext()) {
+                    emit(writer, processCached(cache, toGraphInput(reader.next()), algoName, warmup, runs, true));
+                    processed++;
                 }
-                System.out.println();
-
-                outputs.add(record);
             }
+            writer.finish();
 
-            writeJSON(outputPath, outputs);
+            System.out.println(processed + " graph(s) processed"
+                + (cache != null ? " (" + cache.getHits() + " from cache)." : "."));
             System.out.println("Results written to: " + outputPath);
 
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
             System.err.println("Error: " + e.getMessage());
             System.err.println("Stack trace:");
             for (StackTraceElement element : e.getStackTrace()) {
@@ -391,4 +775,3 @@ public class MST {
         }
     }
 }
-
@@ -0,0 +1,62 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.util.Metrics;
+
+/**
+ * MST engines selectable by name (e.g. from the command line).
+ */
+public enum Algorithm {
+    PRIM_SIMPLE("prim", PrimSimple::computeMST),
+    PRIM_BINARY_HEAP("prim-heap", PrimBinaryHeap::computeMST),
+    PRIM_INDEXED_HEAP("prim-dheap", PrimIndexedHeap::computeMST),
+    PRIM_DENSE("prim-dense", PrimDense::computeMST),
+    KRUSKAL("kruskal", Kruskal::computeMST),
+    KRUSKAL_PACKED("kruskal-packed", KruskalPacked::computeMST),
+    KRUSKAL_RADIX("kruskal-radix", KruskalRadix::computeMST),
+    FILTER_KRUSKAL("filter-kruskal", FilterKruskal::computeMST),
+    BORUVKA("boruvka", Boruvka::computeMST, true);
+
+    @FunctionalInterface
+    public interface Engine {
+        Result computeMST(CsrGraph graph, Metrics metrics);
+    }
+
+    private final String displayName;
+    private final Engine engine;
+    private final boolean parallel;
+
+    Algorithm(String displayName, Engine engine) {
+        this(displayName, engine, false);
+    }
+
+    Algorithm(String displayName, Engine engine, boolean parallel) {
+        this.displayName = displayName;
+        this.engine = engine;
+        this.parallel = parallel;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Whether the engine updates its Metrics from several threads at once.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public Result computeMST(CsrGraph graph, Metrics metrics) {
+        return engine.computeMST(graph, metrics);
+    }
+
+    public static Algorithm fromName(String name) {
+        for (Algorithm algorithm : values()) {
+            if (algorithm.displayName.equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown algorithm: " + name);
+    }
+}
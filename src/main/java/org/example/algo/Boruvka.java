@@ -0,0 +1,140 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+
+public class Boruvka {
+
+    /** Edges per parallel task in the minimum-edge search. */
+    static final int CHUNK_SIZE = 1 << 14;
+
+    private static final long NONE = Long.MAX_VALUE;
+
+    /**
+     * Compute MST using Borůvka's algorithm. Each round finds the cheapest
+     * outgoing edge of every component in parallel over edge ranges, then
+     * merges components through a ConcurrentDSU, also in parallel. Ties
+     * break on (weight, edge id), so the chosen edges match Kruskal under
+     * the same order.
+     * Handles disconnected graphs (returns forest).
+     */
+    public static Result computeMST(Graph graph, Metrics metrics) {
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+
+        if (n == 0) {
+            return new Result(new ArrayList<>(), 0);
+        }
+
+        ConcurrentDSU dsu = new ConcurrentDSU(n);
+        int[] component = new int[n];
+        AtomicLongArray cheapest = new AtomicLongArray(n);
+        int chunks = (m + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        boolean parallel = chunks > 1;
+
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+
+            // Snapshot roots so the search phase only reads plain arrays
+            range(n, parallel).forEach(v -> {
+                component[v] = dsu.find(v);
+                cheapest.set(v, NONE);
+            });
+            metrics.inc(Metrics.Counter.FINDS, n); // Count root lookups
+
+            range(chunks, parallel).forEach(chunk -> {
+                int from = chunk * CHUNK_SIZE;
+                int to = Math.min(from + CHUNK_SIZE, m);
+                long candidates = 0;
+
+                for (int e = from; e < to; e++) {
+                    int cu = component[graph.edgeU(e)];
+                    int cv = component[graph.edgeV(e)];
+                    if (cu == cv) {
+                        continue;
+                    }
+
+                    candidates++;
+                    long key = EdgeKeys.pack(graph.edgeWeight(e), e);
+                    offerMin(cheapest, cu, key);
+                    offerMin(cheapest, cv, key);
+                }
+
+                metrics.inc(Metrics.Counter.COMPARISONS, candidates); // Count candidate edge checks
+            });
+
+            // Merge every component along its cheapest edge. Two components
+            // may pick the same edge; the concurrent union succeeds only once.
+            // Under the total (weight, edge id) order the chosen edges form a
+            // forest, so every distinct chosen edge merges two components.
+            range(n, parallel).forEach(root -> {
+                long key = cheapest.get(root);
+                if (key != NONE) {
+                    int e = EdgeKeys.edge(key);
+                    dsu.union(graph.edgeU(e), graph.edgeV(e));
+                }
+            });
+
+            // Root ids depend on which concurrent union won, so collect the
+            // round's edges (an edge picked by both components only once)
+            // and append them in (weight, edge id) order
+            long[] roundKeys = new long[n];
+            int count = 0;
+            for (int root = 0; root < n; root++) {
+                long key = cheapest.get(root);
+                if (key == NONE) {
+                    continue;
+                }
+
+                int e = EdgeKeys.edge(key);
+                int other = component[graph.edgeU(e)] == root
+                    ? component[graph.edgeV(e)] : component[graph.edgeU(e)];
+                if (other < root && cheapest.get(other) == key) {
+                    continue;
+                }
+                roundKeys[count++] = key;
+            }
+            Arrays.sort(roundKeys, 0, count);
+
+            for (int i = 0; i < count; i++) {
+                int e = EdgeKeys.edge(roundKeys[i]);
+                mstEdges.add(graph.getEdge(e));
+                totalCost += graph.edgeWeight(e);
+                metrics.inc(Metrics.Counter.UNIONS); // Count union
+                merged = true;
+            }
+        }
+
+        return new Result(mstEdges, totalCost);
+    }
+
+    private static IntStream range(int count, boolean parallel) {
+        IntStream stream = IntStream.range(0, count);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    private static void offerMin(AtomicLongArray cheapest, int index, long key) {
+        long current = cheapest.get(index);
+        while (key < current) {
+            if (cheapest.compareAndSet(index, current, key)) {
+                return;
+            }
+            current = cheapest.get(index);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.algo;
+
+import org.example.util.Metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Disjoint Set Union for multi-threaded use.
+ * Each element is one atomic word packing (rank, parent), so linking a root
+ * and bumping its rank are single CAS operations on a consistent snapshot.
+ * Roots are linked by (rank, index) order, which rules out cycles even under
+ * concurrent unions. Finds use path halving with CAS.
+ */
+public class ConcurrentDSU {
+    private final AtomicLongArray nodes;
+
+    public ConcurrentDSU(int n) {
+        nodes = new AtomicLongArray(n);
+        for (int i = 0; i < n; i++) {
+            nodes.set(i, pack(0, i));
+        }
+    }
+
+    public int size() {
+        return nodes.length();
+    }
+
+    public int find(int x) {
+        while (true) {
+            long word = nodes.get(x);
+            int parent = parent(word);
+            if (parent == x) {
+                return x;
+            }
+
+            long parentWord = nodes.get(parent);
+            int grandparent = parent(parentWord);
+            if (parent != grandparent) {
+                // Path halving: point x at its grandparent (harmless if it races)
+                nodes.compareAndSet(x, word, pack(rank(word), grandparent));
+            }
+            x = grandparent;
+        }
+    }
+
+    public int find(int x, Metrics metrics) {
+        if (metrics != null) {
+            metrics.inc(Metrics.Counter.FINDS);
+        }
+        return find(x);
+    }
+
+    public boolean sameSet(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return true;
+            }
+            // rootX still a root means the answer was valid at that instant
+            if (parent(nodes.get(rootX)) == rootX) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Merge the sets of x and y. Returns true for exactly one of any group
+     * of concurrent calls that join the same two sets.
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return false;
+            }
+
+            long wordX = nodes.get(rootX);
+            long wordY = nodes.get(rootY);
+            // Roots may have been linked since find(); retry from the top
+            if (parent(wordX) != rootX || parent(wordY) != rootY) {
+                continue;
+            }
+
+            int rankX = rank(wordX);
+            int rankY = rank(wordY);
+
+            // Link the smaller (rank, index) root under the larger one
+            if (rankX > rankY || (rankX == rankY && rootX > rootY)) {
+                int tmpRoot = rootX;
+                rootX = rootY;
+                rootY = tmpRoot;
+                long tmpWord = wordX;
+                wordX = wordY;
+                wordY = tmpWord;
+                rankX = rankY;
+                rankY = rank(wordY);
+            }
+
+            if (!nodes.compareAndSet(rootX, wordX, pack(rankX, rootY))) {
+                continue;
+            }
+
+            if (rankX == rankY) {
+                // Best effort: fails only if rootY changed, which keeps the order valid
+                nodes.compareAndSet(rootY, wordY, pack(rankY + 1, rootY));
+            }
+            return true;
+        }
+    }
+
+    public boolean union(int x, int y, Metrics metrics) {
+        if (metrics != null) {
+            metrics.inc(Metrics.Counter.UNIONS);
+        }
+        return union(x, y);
+    }
+
+    private static long pack(int rank, int parent) {
+        return ((long) rank << 32) | (parent & 0xFFFFFFFFL);
+    }
+
+    private static int rank(long word) {
+        return (int) (word >>> 32);
+    }
+
+    private static int parent(long word) {
+        return (int) word;
+    }
+}
@@ -3,31 +3,105 @@ package org.example.algo;
 import org.example.util.Metrics;
 
 /**
- * Disjoint Set Union with path compression and union by size.
+ * Disjoint Set Union with configurable find and union strategies.
+ * All finds are iterative, so deep trees cannot overflow the stack.
+ * Defaults to path compression and union by size.
  */
 public class DSU {
+
+    /**
+     * How find() shortens the path it walks.
+     */
+    public enum FindStrategy {
+        /** Two passes: locate the root, then point every node on the path at it. */
+        COMPRESSION,
+        /** One pass: every other node on the path skips to its grandparent. */
+        HALVING,
+        /** One pass: every node on the path skips to its grandparent. */
+        SPLITTING
+    }
+
+    /**
+     * Which root becomes the child when two trees are linked.
+     */
+    public enum UnionStrategy {
+        SIZE,
+        RANK
+    }
+
     private final int[] parent;
-    private final int[] size;
+    private final int[] size;   // subtree size (SIZE) or rank (RANK), valid at roots
+    private final FindStrategy findStrategy;
+    private final UnionStrategy unionStrategy;
 
     public DSU(int n) {
+        this(n, FindStrategy.COMPRESSION, UnionStrategy.SIZE);
+    }
+
+    public DSU(int n, FindStrategy findStrategy, UnionStrategy unionStrategy) {
+        this.findStrategy = findStrategy;
+        this.unionStrategy = unionStrategy;
         parent = new int[n];
         size = new int[n];
+        int initial = unionStrategy == UnionStrategy.SIZE ? 1 : 0;
         for (int i = 0; i < n; i++) {
             parent[i] = i;
-            size[i] = 1;
+            size[i] = initial;
         }
     }
 
+    public FindStrategy getFindStrategy() {
+        return findStrategy;
+    }
+
+    public UnionStrategy getUnionStrategy() {
+        return unionStrategy;
+    }
+
     public int find(int x) {
-        if (parent[x] != x) {
-            parent[x] = find(parent[x]);
+        switch (findStrategy) {
+            case HALVING:
+                return findHalving(x);
+            case SPLITTING:
+                return findSplitting(x);
+            default:
+                return findCompression(x);
+        }
+    }
+
+    private int findCompression(int x) {
+        int root = x;
+        while (parent[root] != root) {
+            root = parent[root];
         }
-        return parent[x];
+        while (parent[x] != root) {
+            int next = parent[x];
+            parent[x] = root;
+            x = next;
+        }
+        return root;
+    }
+
+    private int findHalving(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private int findSplitting(int x) {
+        while (parent[x] != x) {
+            int next = parent[x];
+            parent[x] = parent[next];
+            x = next;
+        }
+        return x;
     }
 
     public int find(int x, Metrics metrics) {
         if (metrics != null) {
-            metrics.inc();
+            metrics.inc(Metrics.Counter.FINDS);
         }
         return find(x);
     }
@@ -41,21 +115,43 @@ public class DSU {
         }
 
         if (size[rootX] < size[rootY]) {
-            parent[rootX] = rootY;
-            size[rootY] += size[rootX];
-        } else {
-            parent[rootY] = rootX;
+            int tmp = rootX;
+            rootX = rootY;
+            rootY = tmp;
+        }
+
+        // rootX is the larger (or equal) tree
+        parent[rootY] = rootX;
+        if (unionStrategy == UnionStrategy.SIZE) {
             size[rootX] += size[rootY];
+        } else if (size[rootX] == size[rootY]) {
+            size[rootX]++;
         }
 
         return true;
     }
 
+    /**
+     * Attach root child under root parent without applying the union
+     * strategy. Test hook for building deep paths; not for engines.
+     */
+    void link(int child, int parent) {
+        if (this.parent[child] != child || this.parent[parent] != parent || child == parent) {
+            throw new IllegalArgumentException("link expects two distinct roots");
+        }
+
+        this.parent[child] = parent;
+        if (unionStrategy == UnionStrategy.SIZE) {
+            size[parent] += size[child];
+        } else {
+            size[parent] = Math.max(size[parent], size[child] + 1);
+        }
+    }
+
     public boolean union(int x, int y, Metrics metrics) {
         if (metrics != null) {
-            metrics.inc();
+            metrics.inc(Metrics.Counter.UNIONS);
         }
         return union(x, y);
     }
 }
-
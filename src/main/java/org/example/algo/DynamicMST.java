@@ -0,0 +1,410 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.*;
+
+/**
+ * Minimum spanning forest maintained under edge insertions, deletions and
+ * weight changes.
+ * The forest lives in a {@link LinkCutTree} (edges are nodes keyed by
+ * (weight, handle)); every vertex also keeps an intrusive list of its
+ * incident edges. Inserts and weight decreases replace the cycle maximum in
+ * O(log V) amortized. Removing a tree edge walks both halves of the cut
+ * forest in lockstep until the smaller one is fully explored, then takes the
+ * lightest non-tree edge leaving it: O(sum of degrees in the smaller half)
+ * per bridge deletion, which is still O(E) in the worst case but never
+ * touches edges of the larger half.
+ * Edges are addressed by handle: graph edge e has handle e, inserts return
+ * new handles, and a deleted edge's handle may be reused. Not thread-safe.
+ */
+public class DynamicMST {
+    private static final int NO_EDGE = -1;
+
+    private final List<String> nodes;
+    private final Map<String, Integer> nodeIndex;
+    private final LinkCutTree tree;
+
+    // Per handle; edges[h] == null marks a free handle
+    private int[] edgeU;
+    private int[] edgeV;
+    private Edge[] edges;
+    private boolean[] inTree;
+    private int handleCount;
+    private final Deque<Integer> freeHandles = new ArrayDeque<>();
+
+    // Incidence lists over slots: slot 2h is handle h at edgeU[h], 2h + 1 at edgeV[h]
+    private final int[] firstSlot;
+    private int[] nextSlot;
+    private int[] prevSlot;
+
+    // Scratch for reconnect: per-vertex side mark (0 = unvisited) and two BFS queues
+    private final byte[] side;
+    private final int[] queueU;
+    private final int[] queueV;
+
+    private int forestSize;
+    private int totalCost;
+
+    public DynamicMST(Graph graph) {
+        CsrGraph csr = new CsrGraph(graph);
+        int n = csr.getNodeCount();
+        int m = csr.getEdgeCount();
+
+        this.nodes = graph.getNodes();
+        this.nodeIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            nodeIndex.put(nodes.get(i), i);
+        }
+
+        int capacity = Math.max(16, m);
+        edgeU = new int[capacity];
+        edgeV = new int[capacity];
+        edges = new Edge[capacity];
+        inTree = new boolean[capacity];
+        nextSlot = new int[2 * capacity];
+        prevSlot = new int[2 * capacity];
+
+        firstSlot = new int[n];
+        Arrays.fill(firstSlot, NO_EDGE);
+        side = new byte[n];
+        queueU = new int[n];
+        queueV = new int[n];
+
+        tree = new LinkCutTree(n + capacity);
+        for (int v = 0; v < n; v++) {
+            tree.addNode(Long.MIN_VALUE);
+        }
+
+        for (int e = 0; e < m; e++) {
+            insert(csr.edgeU(e), csr.edgeV(e), csr.getEdge(e));
+        }
+    }
+
+    private int indexOf(String name) {
+        Integer index = nodeIndex.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown vertex: " + name);
+        }
+        return index;
+    }
+
+    private void checkHandle(int handle) {
+        if (handle < 0 || handle >= handleCount || edges[handle] == null) {
+            throw new IllegalArgumentException("Unknown edge handle: " + handle);
+        }
+    }
+
+    // ==================== OPERATIONS ====================
+
+    /**
+     * Insert an edge between existing vertices; returns its handle.
+     */
+    public int insert(Edge edge) {
+        return insert(indexOf(edge.u), indexOf(edge.v), edge);
+    }
+
+    /**
+     * Insert an edge given as vertex ids (index into the graph's node list).
+     */
+    public int insert(int u, int v, int weight) {
+        return insert(u, v, new Edge(nodes.get(u), nodes.get(v), weight));
+    }
+
+    private int insert(int u, int v, Edge edge) {
+        int handle = allocate(u, v, edge);
+        place(handle);
+        return handle;
+    }
+
+    /**
+     * Remove the edge with the given handle.
+     */
+    public void delete(int handle) {
+        checkHandle(handle);
+
+        detach(handle);
+        if (inTree[handle]) {
+            cutForestEdge(handle);
+            reconnect(edgeU[handle], edgeV[handle]);
+        }
+
+        edges[handle] = null;
+        freeHandles.push(handle);
+    }
+
+    /**
+     * Change the weight of the edge with the given handle.
+     */
+    public void reweight(int handle, int weight) {
+        checkHandle(handle);
+        Edge old = edges[handle];
+        if (old.w == weight) {
+            return;
+        }
+        Edge edge = new Edge(old.u, old.v, weight);
+
+        if (inTree[handle]) {
+            if (weight < old.w) {
+                // A lighter tree edge still beats every edge it was already beating
+                edges[handle] = edge;
+                totalCost += weight - old.w;
+                tree.setValue(nodeOf(handle), key(handle));
+            } else {
+                // Heavier: compete with the non-tree edges across its cut, itself included
+                cutForestEdge(handle);
+                edges[handle] = edge;
+                reconnect(edgeU[handle], edgeV[handle]);
+            }
+        } else {
+            edges[handle] = edge;
+            if (weight < old.w) {
+                place(handle);
+            }
+        }
+    }
+
+    // ==================== FOREST MAINTENANCE ====================
+
+    /**
+     * Put a non-tree handle where it belongs: join two trees, replace a
+     * heavier cycle edge, or stay a non-tree edge.
+     */
+    private void place(int handle) {
+        int u = edgeU[handle];
+        int v = edgeV[handle];
+
+        if (u == v) {
+            return; // Self-loop: kept so it can be deleted, never used
+        }
+        if (!tree.connected(u, v)) {
+            linkForestEdge(handle);
+            return;
+        }
+
+        int heaviest = tree.pathMax(u, v);
+        if (tree.getValue(heaviest) > key(handle)) {
+            int replaced = handleOf(heaviest);
+            cutForestEdge(replaced);
+            linkForestEdge(handle);
+        }
+    }
+
+    /**
+     * After cutting the tree edge u-v, link the lightest non-tree edge that
+     * joins the two halves, if any. Both halves are explored one incidence
+     * slot at a time; the first to run out is the smaller, and only its
+     * incident edges are scanned.
+     */
+    private void reconnect(int u, int v) {
+        Walk walkU = new Walk(queueU, (byte) 1, u);
+        Walk walkV = new Walk(queueV, (byte) 2, v);
+
+        Walk smaller;
+        while (true) {
+            if (!walkU.step()) {
+                smaller = walkU;
+                break;
+            }
+            if (!walkV.step()) {
+                smaller = walkV;
+                break;
+            }
+        }
+
+        int replacement = NO_EDGE;
+        for (int i = 0; i < smaller.tail; i++) {
+            for (int slot = firstSlot[smaller.queue[i]]; slot != NO_EDGE; slot = nextSlot[slot]) {
+                int handle = slot >> 1;
+                // Before the cut every non-tree edge closed a cycle; now only those crossing it don't
+                if (!inTree[handle] && side[otherEnd(slot)] != smaller.mark
+                    && (replacement == NO_EDGE || key(handle) < key(replacement))) {
+                    replacement = handle;
+                }
+            }
+        }
+
+        walkU.clear();
+        walkV.clear();
+
+        if (replacement != NO_EDGE) {
+            linkForestEdge(replacement);
+        }
+    }
+
+    /**
+     * Breadth-first walk over tree edges from one endpoint of a cut edge,
+     * advanced one incidence slot per step so two walks can run in lockstep.
+     */
+    private final class Walk {
+        final int[] queue;
+        final byte mark;
+        int head;
+        int tail;
+        int slot;
+
+        Walk(int[] queue, byte mark, int start) {
+            this.queue = queue;
+            this.mark = mark;
+            side[start] = mark;
+            queue[0] = start;
+            tail = 1;
+            slot = firstSlot[start];
+        }
+
+        /**
+         * Examine one slot; returns false once the whole tree is visited.
+         */
+        boolean step() {
+            while (slot == NO_EDGE) {
+                if (++head == tail) {
+                    return false;
+                }
+                slot = firstSlot[queue[head]];
+            }
+
+            int current = slot;
+            slot = nextSlot[current];
+            int other = otherEnd(current);
+            if (inTree[current >> 1] && side[other] == 0) {
+                side[other] = mark;
+                queue[tail++] = other;
+            }
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < tail; i++) {
+                side[queue[i]] = 0;
+            }
+        }
+    }
+
+    private void linkForestEdge(int handle) {
+        int node = nodeOf(handle);
+        tree.reset(node, key(handle));
+        tree.link(edgeU[handle], node);
+        tree.link(node, edgeV[handle]);
+        inTree[handle] = true;
+        forestSize++;
+        totalCost += edges[handle].w;
+    }
+
+    private void cutForestEdge(int handle) {
+        int node = nodeOf(handle);
+        tree.cut(edgeU[handle], node);
+        tree.cut(node, edgeV[handle]);
+        inTree[handle] = false;
+        forestSize--;
+        totalCost -= edges[handle].w;
+    }
+
+    // ==================== HANDLES ====================
+
+    private int allocate(int u, int v, Edge edge) {
+        int handle;
+        if (!freeHandles.isEmpty()) {
+            handle = freeHandles.pop();
+        } else {
+            if (handleCount == edges.length) {
+                int capacity = handleCount * 2;
+                edgeU = Arrays.copyOf(edgeU, capacity);
+                edgeV = Arrays.copyOf(edgeV, capacity);
+                edges = Arrays.copyOf(edges, capacity);
+                inTree = Arrays.copyOf(inTree, capacity);
+                nextSlot = Arrays.copyOf(nextSlot, 2 * capacity);
+                prevSlot = Arrays.copyOf(prevSlot, 2 * capacity);
+            }
+            handle = handleCount++;
+            tree.addNode(Long.MIN_VALUE);
+        }
+
+        edgeU[handle] = u;
+        edgeV[handle] = v;
+        edges[handle] = edge;
+        inTree[handle] = false;
+        attach(2 * handle, u);
+        attach(2 * handle + 1, v);
+        return handle;
+    }
+
+    private void attach(int slot, int vertex) {
+        int first = firstSlot[vertex];
+        nextSlot[slot] = first;
+        prevSlot[slot] = NO_EDGE;
+        if (first != NO_EDGE) {
+            prevSlot[first] = slot;
+        }
+        firstSlot[vertex] = slot;
+    }
+
+    private void detach(int handle) {
+        unlink(2 * handle, edgeU[handle]);
+        unlink(2 * handle + 1, edgeV[handle]);
+    }
+
+    private void unlink(int slot, int vertex) {
+        int next = nextSlot[slot];
+        int prev = prevSlot[slot];
+        if (prev == NO_EDGE) {
+            firstSlot[vertex] = next;
+        } else {
+            nextSlot[prev] = next;
+        }
+        if (next != NO_EDGE) {
+            prevSlot[next] = prev;
+        }
+    }
+
+    private int otherEnd(int slot) {
+        int handle = slot >> 1;
+        return (slot & 1) == 0 ? edgeV[handle] : edgeU[handle];
+    }
+
+    private long key(int handle) {
+        return EdgeKeys.pack(edges[handle].w, handle);
+    }
+
+    private int nodeOf(int handle) {
+        return nodes.size() + handle;
+    }
+
+    private int handleOf(int node) {
+        return node - nodes.size();
+    }
+
+    // ==================== QUERIES ====================
+
+    public int getTotalCost() {
+        return totalCost;
+    }
+
+    public int getEdgeCount() {
+        return forestSize;
+    }
+
+    public boolean isTreeEdge(int handle) {
+        checkHandle(handle);
+        return inTree[handle];
+    }
+
+    public Edge getEdge(int handle) {
+        checkHandle(handle);
+        return edges[handle];
+    }
+
+    /**
+     * Snapshot of the current forest, in handle order.
+     */
+    public Result toResult() {
+        List<Edge> mstEdges = new ArrayList<>(forestSize);
+        for (int h = 0; h < handleCount; h++) {
+            if (edges[h] != null && inTree[h]) {
+                mstEdges.add(edges[h]);
+            }
+        }
+        return new Result(mstEdges, totalCost);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.algo;
+
+/**
+ * Packs (weight, edge id) into one long so primitive ordering is by weight,
+ * then by edge id. Ties therefore break deterministically.
+ */
+final class EdgeKeys {
+
+    private EdgeKeys() {
+    }
+
+    static long pack(int weight, int edge) {
+        return ((long) weight << 32) | (edge & 0xFFFFFFFFL);
+    }
+
+    static int weight(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int edge(long key) {
+        return (int) key;
+    }
+}
@@ -0,0 +1,320 @@
+package org.example.algo;
+
+import org.example.model.EdgeList;
+import org.example.util.Metrics;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Out-of-core Kruskal for edge lists that do not fit in the heap.
+ * Edges are read in runs of runSize, each run is sorted by packed
+ * (weight, edge id) key and spilled to a temporary file, and the runs are
+ * k-way merged (in several passes if there are more than fanIn). The merged
+ * stream goes through a {@link DSU}, so memory stays O(V + runSize), and
+ * accepted edges are handed to the sink as they are found. Tie-breaking
+ * matches {@link KruskalPacked}, so both pick the same edges.
+ */
+public class ExternalKruskal {
+    public static final int DEFAULT_RUN_SIZE = 1 << 22; // 4M edges, 64 MB of run buffer
+    public static final int DEFAULT_FAN_IN = 64;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Receives MST edges in acceptance (ascending weight) order.
+     */
+    @FunctionalInterface
+    public interface AcceptedEdgeSink {
+        void accept(int edge, int u, int v, int weight) throws IOException;
+    }
+
+    /**
+     * Totals of one external run; the edges themselves went to the sink.
+     */
+    public static class Summary {
+        private final int edgeCount;
+        private final long totalCost;
+        private final int runCount;
+        private final int mergePasses;
+
+        Summary(int edgeCount, long totalCost, int runCount, int mergePasses) {
+            this.edgeCount = edgeCount;
+            this.totalCost = totalCost;
+            this.runCount = runCount;
+            this.mergePasses = mergePasses;
+        }
+
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        public long getTotalCost() {
+            return totalCost;
+        }
+
+        /** Sorted runs spilled to disk (0 when everything fit in one run). */
+        public int getRunCount() {
+            return runCount;
+        }
+
+        /** Intermediate merge passes before the final merge. */
+        public int getMergePasses() {
+            return mergePasses;
+        }
+    }
+
+    public static Summary computeMST(EdgeList graph, Path tempDir, AcceptedEdgeSink sink,
+                                     Metrics metrics) throws IOException {
+        return computeMST(graph, tempDir, DEFAULT_RUN_SIZE, DEFAULT_FAN_IN, sink, metrics);
+    }
+
+    public static Summary computeMST(EdgeList graph, Path tempDir, int runSize, int fanIn,
+                                     AcceptedEdgeSink sink, Metrics metrics) throws IOException {
+        if (runSize <= 0) {
+            throw new IllegalArgumentException("runSize must be positive");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2");
+        }
+
+        int m = graph.getEdgeCount();
+        List<Path> created = new ArrayList<>();
+        try {
+            if (m <= runSize) {
+                // Fits in one run: no spill needed
+                long[] keys = sortedRun(graph, 0, m, metrics);
+                return scan(graph.getNodeCount(), new ArrayCursor(graph, keys, 0), sink, metrics, 0, 0);
+            }
+
+            List<Path> runs = new ArrayList<>();
+            for (int start = 0; start < m; start += runSize) {
+                int count = Math.min(runSize, m - start);
+                long[] keys = sortedRun(graph, start, count, metrics);
+                Path run = createRun(tempDir, created);
+                try (RunWriter writer = new RunWriter(run)) {
+                    ArrayCursor cursor = new ArrayCursor(graph, keys, start);
+                    while (cursor.advance()) {
+                        writer.write(cursor);
+                    }
+                }
+                runs.add(run);
+            }
+            int runCount = runs.size();
+
+            int passes = 0;
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                    Path run = createRun(tempDir, created);
+                    try (MergeCursor cursor = new MergeCursor(group);
+                         RunWriter writer = new RunWriter(run)) {
+                        while (cursor.advance()) {
+                            writer.write(cursor);
+                        }
+                    }
+                    for (Path input : group) {
+                        Files.deleteIfExists(input);
+                    }
+                    merged.add(run);
+                }
+                runs = merged;
+                passes++;
+            }
+
+            try (MergeCursor cursor = new MergeCursor(runs)) {
+                return scan(graph.getNodeCount(), cursor, sink, metrics, runCount, passes);
+            }
+        } finally {
+            for (Path path : created) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Sorted keys for edges [start, start+count), packed with the run-local index.
+     */
+    private static long[] sortedRun(EdgeList graph, int start, int count, Metrics metrics) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = EdgeKeys.pack(graph.edgeWeight(start + i), i);
+        }
+        Arrays.sort(keys);
+        metrics.inc(Metrics.Counter.COMPARISONS, count); // Count sort pass
+        return keys;
+    }
+
+    private static Path createRun(Path tempDir, List<Path> created) throws IOException {
+        Path run = Files.createTempFile(tempDir, "kruskal-run-", ".bin");
+        created.add(run);
+        return run;
+    }
+
+    private static Summary scan(int n, Cursor cursor, AcceptedEdgeSink sink, Metrics metrics,
+                                int runCount, int passes) throws IOException {
+        DSU dsu = new DSU(n);
+        int accepted = 0;
+        long totalCost = 0;
+
+        while (accepted < n - 1 && cursor.advance()) {
+            int rootU = dsu.find(cursor.u, metrics);
+            int rootV = dsu.find(cursor.v, metrics);
+
+            if (rootU != rootV) {
+                dsu.union(rootU, rootV, metrics);
+                sink.accept(cursor.edge, cursor.u, cursor.v, cursor.weight);
+                totalCost += cursor.weight;
+                accepted++;
+            }
+        }
+
+        return new Summary(accepted, totalCost, runCount, passes);
+    }
+
+    // ==================== SORTED EDGE STREAMS ====================
+
+    /**
+     * Forward-only stream of edges in (weight, edge id) order.
+     */
+    private abstract static class Cursor {
+        int edge;
+        int u;
+        int v;
+        int weight;
+
+        abstract boolean advance() throws IOException;
+
+        long key() {
+            return EdgeKeys.pack(weight, edge);
+        }
+    }
+
+    private static class ArrayCursor extends Cursor {
+        private final EdgeList graph;
+        private final long[] keys;
+        private final int start;
+        private int next;
+
+        ArrayCursor(EdgeList graph, long[] keys, int start) {
+            this.graph = graph;
+            this.keys = keys;
+            this.start = start;
+        }
+
+        @Override
+        boolean advance() {
+            if (next == keys.length) {
+                return false;
+            }
+            edge = start + EdgeKeys.edge(keys[next++]);
+            u = graph.edgeU(edge);
+            v = graph.edgeV(edge);
+            weight = graph.edgeWeight(edge);
+            return true;
+        }
+    }
+
+    /**
+     * Reads one run file of (weight, edge, u, v) int records.
+     */
+    private static class RunCursor extends Cursor implements Closeable {
+        private final DataInputStream in;
+        private long remaining;
+
+        RunCursor(Path run) throws IOException {
+            this.remaining = Files.size(run) / 16;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), BUFFER_SIZE));
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            weight = in.readInt();
+            edge = in.readInt();
+            u = in.readInt();
+            v = in.readInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * K-way merge of run files through a heap on each run's current key.
+     */
+    private static class MergeCursor extends Cursor implements Closeable {
+        private final List<RunCursor> runs = new ArrayList<>();
+        private final PriorityQueue<RunCursor> heads =
+            new PriorityQueue<>(Comparator.comparingLong(Cursor::key));
+        private RunCursor current;
+
+        MergeCursor(List<Path> paths) throws IOException {
+            try {
+                for (Path path : paths) {
+                    RunCursor run = new RunCursor(path);
+                    runs.add(run);
+                    if (run.advance()) {
+                        heads.add(run);
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            // Refill from the run that supplied the previous edge
+            if (current != null && current.advance()) {
+                heads.add(current);
+            }
+            current = heads.poll();
+            if (current == null) {
+                return false;
+            }
+            edge = current.edge;
+            u = current.u;
+            v = current.v;
+            weight = current.weight;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (RunCursor run : runs) {
+                run.close();
+            }
+        }
+    }
+
+    private static class RunWriter implements Closeable {
+        private final DataOutputStream out;
+
+        RunWriter(Path run) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), BUFFER_SIZE));
+        }
+
+        void write(Cursor record) throws IOException {
+            out.writeInt(record.weight);
+            out.writeInt(record.edge);
+            out.writeInt(record.u);
+            out.writeInt(record.v);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
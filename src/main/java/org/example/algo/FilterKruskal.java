@@ -0,0 +1,171 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+
+import java.util.*;
+
+
+public class FilterKruskal {
+
+    /** Ranges at or below this size are sorted and scanned directly. */
+    static final int BASE_CASE_SIZE = 64;
+
+    /**
+     * Where the work of one run went: keys sorted in base cases and heavy
+     * keys the filter dropped without ever sorting them.
+     */
+    public static class Work {
+        private long sortedKeys;
+        private long filteredKeys;
+
+        public long getSortedKeys() {
+            return sortedKeys;
+        }
+
+        public long getFilteredKeys() {
+            return filteredKeys;
+        }
+    }
+
+    /**
+     * Compute MST using Filter-Kruskal: partition the edge keys around a
+     * pivot, solve the light half first, then drop heavy edges whose
+     * endpoints are already connected before recursing into them.
+     * Edge order is the same total (weight, edge id) order as KruskalPacked,
+     * so the result is identical. Handles disconnected graphs (returns forest).
+     */
+    public static Result computeMST(Graph graph, Metrics metrics) {
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        return computeMST(graph, metrics, new Work());
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics, Work work) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+
+        if (n == 0) {
+            return new Result(new ArrayList<>(), 0);
+        }
+
+        long[] keys = new long[m];
+        for (int e = 0; e < m; e++) {
+            keys[e] = EdgeKeys.pack(graph.edgeWeight(e), e);
+        }
+
+        State state = new State(graph, metrics, work);
+        state.filterKruskal(keys, 0, m);
+
+        return new Result(state.mstEdges, state.totalCost);
+    }
+
+    private static class State {
+        final CsrGraph graph;
+        final Metrics metrics;
+        final Work work;
+        final DSU dsu;
+        final int target;
+        final List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        State(CsrGraph graph, Metrics metrics, Work work) {
+            this.graph = graph;
+            this.metrics = metrics;
+            this.work = work;
+            this.dsu = new DSU(graph.getNodeCount());
+            this.target = KruskalPacked.maxForestEdges(graph);
+        }
+
+        boolean done() {
+            return mstEdges.size() >= target;
+        }
+
+        void filterKruskal(long[] keys, int lo, int hi) {
+            if (done()) {
+                return;
+            }
+
+            if (hi - lo <= BASE_CASE_SIZE) {
+                Arrays.sort(keys, lo, hi);
+                metrics.inc(Metrics.Counter.COMPARISONS, hi - lo); // Count sort pass
+                work.sortedKeys += hi - lo;
+                scan(keys, lo, hi);
+                return;
+            }
+
+            // Keys are unique (edge id in low bits), so the median of three
+            // is never the maximum and both halves are non-empty.
+            long pivot = medianOfThree(keys[lo], keys[(lo + hi) >>> 1], keys[hi - 1]);
+            int split = partition(keys, lo, hi, pivot);
+
+            filterKruskal(keys, lo, split);
+
+            if (done()) {
+                return;
+            }
+
+            int kept = filter(keys, split, hi);
+            filterKruskal(keys, split, kept);
+        }
+
+        void scan(long[] keys, int lo, int hi) {
+            for (int i = lo; i < hi && !done(); i++) {
+                int e = EdgeKeys.edge(keys[i]);
+
+                int rootU = dsu.find(graph.edgeU(e), metrics);
+                int rootV = dsu.find(graph.edgeV(e), metrics);
+
+                if (rootU != rootV) {
+                    dsu.union(rootU, rootV, metrics);
+                    mstEdges.add(graph.getEdge(e));
+                    totalCost += graph.edgeWeight(e);
+                }
+            }
+        }
+
+        /**
+         * Move keys <= pivot to the front of [lo, hi); returns the split index.
+         */
+        int partition(long[] keys, int lo, int hi, long pivot) {
+            int i = lo;
+            for (int j = lo; j < hi; j++) {
+                if (keys[j] <= pivot) {
+                    long tmp = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = tmp;
+                    i++;
+                }
+            }
+            metrics.inc(Metrics.Counter.COMPARISONS, hi - lo); // Count partition pass
+            return i;
+        }
+
+        /**
+         * Compact keys whose endpoints are still in different components to
+         * the front of [lo, hi); returns the new end index.
+         */
+        int filter(long[] keys, int lo, int hi) {
+            int kept = lo;
+            for (int i = lo; i < hi; i++) {
+                int e = EdgeKeys.edge(keys[i]);
+                if (dsu.find(graph.edgeU(e), metrics) != dsu.find(graph.edgeV(e), metrics)) {
+                    keys[kept++] = keys[i];
+                }
+            }
+            work.filteredKeys += hi - kept;
+            return kept;
+        }
+
+        static long medianOfThree(long a, long b, long c) {
+            if (a < b) {
+                return b < c ? b : Math.max(a, c);
+            }
+            return a < c ? a : Math.max(b, c);
+        }
+    }
+}
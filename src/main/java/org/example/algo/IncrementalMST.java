@@ -0,0 +1,142 @@
+package org.example.algo;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.*;
+
+/**
+ * Minimum spanning forest maintained under edge insertions.
+ * Seeded from a computed {@link Result}; each inserted edge either joins two
+ * trees or replaces the heaviest edge on the cycle it closes, found with a
+ * {@link LinkCutTree} path-maximum query. O(log V) amortized per insert.
+ */
+public class IncrementalMST {
+    private final List<String> nodes;
+    private final Map<String, Integer> nodeIndex;
+    private final LinkCutTree tree;
+
+    // Per edge node (tree id - n): the Edge, its endpoints, and whether it is in the forest
+    private final List<Edge> edges = new ArrayList<>();
+    private final List<int[]> endpoints = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int forestSize;
+    private int totalCost;
+
+    public IncrementalMST(Graph graph, Result seed) {
+        this.nodes = graph.getNodes();
+        this.nodeIndex = new HashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeIndex.put(nodes.get(i), i);
+        }
+
+        this.tree = new LinkCutTree(nodes.size() + seed.getMstEdges().size() + 16);
+        for (int i = 0; i < nodes.size(); i++) {
+            tree.addNode(Long.MIN_VALUE);
+        }
+
+        for (Edge edge : seed.getMstEdges()) {
+            int u = indexOf(edge.u);
+            int v = indexOf(edge.v);
+            if (tree.connected(u, v)) {
+                throw new IllegalArgumentException("Seed result is not a forest: " + edge);
+            }
+            addForestEdge(u, v, edge);
+        }
+    }
+
+    private int indexOf(String name) {
+        Integer index = nodeIndex.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown vertex: " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Insert an edge between existing vertices and return the updated
+     * total cost of the forest.
+     */
+    public int insert(Edge edge) {
+        return insert(indexOf(edge.u), indexOf(edge.v), edge);
+    }
+
+    /**
+     * Insert an edge given as vertex ids (index into the graph's node list).
+     */
+    public int insert(int u, int v, int weight) {
+        return insert(u, v, new Edge(nodes.get(u), nodes.get(v), weight));
+    }
+
+    private int insert(int u, int v, Edge edge) {
+        if (u == v) {
+            return totalCost; // Self-loop never belongs to a spanning forest
+        }
+
+        if (!tree.connected(u, v)) {
+            addForestEdge(u, v, edge);
+            return totalCost;
+        }
+
+        // Cycle: replace its heaviest edge if the new one is lighter
+        int heaviest = tree.pathMax(u, v);
+        if (tree.getValue(heaviest) > edge.w) {
+            removeForestEdge(heaviest);
+            addForestEdge(u, v, edge);
+        }
+        return totalCost;
+    }
+
+    private void addForestEdge(int u, int v, Edge edge) {
+        int node;
+        if (freeSlots.isEmpty()) {
+            node = tree.addNode(edge.w);
+            edges.add(edge);
+            endpoints.add(new int[]{u, v});
+        } else {
+            node = freeSlots.pop();
+            tree.reset(node, edge.w);
+            edges.set(node - nodes.size(), edge);
+            endpoints.set(node - nodes.size(), new int[]{u, v});
+        }
+
+        tree.link(u, node);
+        tree.link(node, v);
+        forestSize++;
+        totalCost += edge.w;
+    }
+
+    private void removeForestEdge(int node) {
+        int slot = node - nodes.size();
+        int[] ends = endpoints.get(slot);
+        tree.cut(ends[0], node);
+        tree.cut(node, ends[1]);
+
+        totalCost -= edges.get(slot).w;
+        edges.set(slot, null);
+        endpoints.set(slot, null);
+        freeSlots.push(node);
+        forestSize--;
+    }
+
+    public int getTotalCost() {
+        return totalCost;
+    }
+
+    public int getEdgeCount() {
+        return forestSize;
+    }
+
+    /**
+     * Snapshot of the current forest.
+     */
+    public Result toResult() {
+        List<Edge> mstEdges = new ArrayList<>(forestSize);
+        for (Edge edge : edges) {
+            if (edge != null) {
+                mstEdges.add(edge);
+            }
+        }
+        return new Result(mstEdges, totalCost);
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.algo;
+
+/**
+ * Indexed d-ary min-heap over items [0..n-1] with long keys.
+ * Supports decrease-key, so each item is in the heap at most once.
+ */
+public class IndexedDHeap {
+    private final int arity;
+    private final int[] heap;   // heap slot -> item
+    private final int[] pos;    // item -> heap slot, -1 if absent
+    private final long[] keys;  // item -> key
+    private int size;
+
+    public IndexedDHeap(int n, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be >= 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[n];
+        this.pos = new int[n];
+        this.keys = new long[n];
+        this.size = 0;
+        for (int i = 0; i < n; i++) {
+            pos[i] = -1;
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int item) {
+        return pos[item] >= 0;
+    }
+
+    public long keyOf(int item) {
+        return keys[item];
+    }
+
+    public void insert(int item, long key) {
+        if (contains(item)) {
+            throw new IllegalStateException("Item already in heap: " + item);
+        }
+        keys[item] = key;
+        heap[size] = item;
+        pos[item] = size;
+        siftUp(size++);
+    }
+
+    public void decreaseKey(int item, long key) {
+        if (key > keys[item]) {
+            throw new IllegalArgumentException("New key is larger than current key");
+        }
+        keys[item] = key;
+        siftUp(pos[item]);
+    }
+
+    /**
+     * Remove the item with the smallest key and return it.
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+
+        int min = heap[0];
+        pos[min] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentItem = heap[parent];
+            if (keys[parentItem] <= key) {
+                break;
+            }
+            heap[i] = parentItem;
+            pos[parentItem] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) {
+                break;
+            }
+
+            // Pick the smallest of up to `arity` children
+            int best = first;
+            int last = Math.min(first + arity, size);
+            for (int c = first + 1; c < last; c++) {
+                if (keys[heap[c]] < keys[heap[best]]) {
+                    best = c;
+                }
+            }
+
+            int bestItem = heap[best];
+            if (key <= keys[bestItem]) {
+                break;
+            }
+            heap[i] = bestItem;
+            pos[bestItem] = i;
+            i = best;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.algo;
 
+import org.example.model.CsrGraph;
 import org.example.model.Edge;
 import org.example.model.Graph;
 import org.example.util.Metrics;
@@ -14,44 +15,49 @@ public class Kruskal {
      * Handles disconnected graphs (returns forest).
      */
     public static Result computeMST(Graph graph, Metrics metrics) {
-        List<String> nodes = graph.getNodes();
-        List<Edge> edges = new ArrayList<>(graph.getEdges());
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    /**
+     * Compute MST on a CSR graph; endpoints are already int vertex ids.
+     * Edges are sorted as packed primitive keys, so COMPARISONS counts one
+     * per key sorted rather than each comparator call.
+     */
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
 
-        if (nodes.isEmpty()) {
+        if (n == 0) {
             return new Result(new ArrayList<>(), 0);
         }
 
-        // Map node names to indices [0..n-1]
-        Map<String, Integer> nodeIndex = new HashMap<>();
-        for (int i = 0; i < nodes.size(); i++) {
-            nodeIndex.put(nodes.get(i), i);
+        // Sort edge ids by weight: packed (weight, id) keys sort as primitives,
+        // ties broken by edge id
+        long[] keys = new long[m];
+        for (int e = 0; e < m; e++) {
+            keys[e] = EdgeKeys.pack(graph.edgeWeight(e), e);
         }
-
-        // Sort edges by weight (with metrics counting comparisons)
-        edges.sort((e1, e2) -> {
-            metrics.inc(); // Count comparison operation
-            return Integer.compare(e1.w, e2.w);
-        });
+        Arrays.sort(keys);
+        metrics.inc(Metrics.Counter.COMPARISONS, m); // Count sort pass
 
         // Initialize DSU
-        DSU dsu = new DSU(nodes.size());
+        DSU dsu = new DSU(n);
         List<Edge> mstEdges = new ArrayList<>();
         int totalCost = 0;
 
         // Process edges in sorted order
-        for (Edge edge : edges) {
-            int u = nodeIndex.get(edge.u);
-            int v = nodeIndex.get(edge.v);
+        for (long key : keys) {
+            int e = EdgeKeys.edge(key);
 
             // Check if edge creates a cycle using DSU
-            int rootU = dsu.find(u, metrics);
-            int rootV = dsu.find(v, metrics);
+            int rootU = dsu.find(graph.edgeU(e), metrics);
+            int rootV = dsu.find(graph.edgeV(e), metrics);
 
             if (rootU != rootV) {
                 // No cycle: add edge to MST
                 dsu.union(rootU, rootV, metrics);
-                mstEdges.add(edge);
-                totalCost += edge.w;
+                mstEdges.add(graph.getEdge(e));
+                totalCost += graph.edgeWeight(e);
             }
         }
 
@@ -59,4 +65,3 @@ public class Kruskal {
     }
 }
 
-
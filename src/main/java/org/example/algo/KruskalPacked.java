@@ -0,0 +1,83 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+
+import java.util.*;
+
+
+public class KruskalPacked {
+
+    /**
+     * Compute MST using Kruskal's algorithm over primitive sort keys.
+     * Each edge becomes one long (weight in the high bits, edge id in the
+     * low bits), so the sort is a primitive Arrays.sort with no comparator.
+     * Handles disconnected graphs (returns forest).
+     */
+    public static Result computeMST(Graph graph, Metrics metrics) {
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+
+        if (n == 0) {
+            return new Result(new ArrayList<>(), 0);
+        }
+
+        long[] keys = new long[m];
+        for (int e = 0; e < m; e++) {
+            keys[e] = EdgeKeys.pack(graph.edgeWeight(e), e);
+        }
+        Arrays.sort(keys);
+        metrics.inc(Metrics.Counter.COMPARISONS, m); // Count sort pass
+
+        return scanSorted(graph, keys, m, metrics);
+    }
+
+    /**
+     * DSU pass over the first `count` sorted keys, stopping as soon as the
+     * forest is complete.
+     */
+    static Result scanSorted(CsrGraph graph, long[] keys, int count, Metrics metrics) {
+        int n = graph.getNodeCount();
+        DSU dsu = new DSU(n);
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        int target = maxForestEdges(graph);
+        for (int i = 0; i < count && mstEdges.size() < target; i++) {
+            int e = EdgeKeys.edge(keys[i]);
+
+            int rootU = dsu.find(graph.edgeU(e), metrics);
+            int rootV = dsu.find(graph.edgeV(e), metrics);
+
+            if (rootU != rootV) {
+                dsu.union(rootU, rootV, metrics);
+                mstEdges.add(graph.getEdge(e));
+                totalCost += graph.edgeWeight(e);
+            }
+        }
+
+        return new Result(mstEdges, totalCost);
+    }
+
+    /**
+     * Upper bound on V - components from an O(V) degree scan: isolated
+     * vertices are components of their own, and all remaining vertices form
+     * at least one more. Exact when the non-isolated part is connected.
+     */
+    static int maxForestEdges(CsrGraph graph) {
+        int n = graph.getNodeCount();
+        int isolated = 0;
+        for (int v = 0; v < n; v++) {
+            if (graph.degree(v) == 0) {
+                isolated++;
+            }
+        }
+        return isolated == n ? 0 : n - isolated - 1;
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+
+import java.util.*;
+
+/**
+ * Kruskal with a non-comparison sort on the integer weights.
+ * Narrow weight ranges use a counting sort in O(E + W); wider ranges use an
+ * LSD radix sort on (weight - min) in O(E) per 11-bit digit; small, wide
+ * inputs fall back to the primitive sort of {@link KruskalPacked}. Every
+ * sort is stable on edge id, so the chosen edges match KruskalPacked.
+ */
+public class KruskalRadix {
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+
+    // Radix bucket arrays and extra passes only pay off above this many edges
+    private static final int RADIX_MIN_EDGES = 1 << 10;
+
+    /**
+     * How the packed edge keys are put in order.
+     */
+    public enum SortMode {
+        /** One counting pass over the weight range: O(E + W). */
+        COUNTING,
+        /** LSD radix over the weight offsets: O(E) per non-constant 11-bit digit. */
+        RADIX,
+        /** Arrays.sort on packed keys: O(E log E). */
+        COMPARISON
+    }
+
+    /**
+     * Pick the cheapest sort for the edge count and weight range.
+     */
+    public static SortMode selectSort(int edgeCount, int minWeight, int maxWeight) {
+        long range = (long) maxWeight - minWeight + 1;
+        if (range <= 2L * edgeCount + 256) {
+            return SortMode.COUNTING;
+        }
+        if (edgeCount >= RADIX_MIN_EDGES) {
+            return SortMode.RADIX;
+        }
+        return SortMode.COMPARISON;
+    }
+
+    public static Result computeMST(Graph graph, Metrics metrics) {
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        return computeMST(graph, metrics, null);
+    }
+
+    /**
+     * Compute the MST with a forced sort mode (null selects automatically).
+     */
+    public static Result computeMST(CsrGraph graph, Metrics metrics, SortMode mode) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+
+        if (n == 0) {
+            return new Result(new ArrayList<>(), 0);
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int e = 0; e < m; e++) {
+            int w = graph.edgeWeight(e);
+            min = Math.min(min, w);
+            max = Math.max(max, w);
+        }
+        if (mode == null) {
+            mode = m == 0 ? SortMode.COMPARISON : selectSort(m, min, max);
+        }
+
+        long[] keys;
+        switch (mode) {
+            case COUNTING:
+                keys = countingSort(graph, min, max, metrics);
+                break;
+            case RADIX:
+                keys = radixSort(graph, min, max, metrics);
+                break;
+            default:
+                keys = new long[m];
+                for (int e = 0; e < m; e++) {
+                    keys[e] = EdgeKeys.pack(graph.edgeWeight(e), e);
+                }
+                Arrays.sort(keys);
+                metrics.inc(Metrics.Counter.COMPARISONS, m); // Count sort pass
+        }
+
+        return KruskalPacked.scanSorted(graph, keys, m, metrics);
+    }
+
+    private static long[] countingSort(CsrGraph graph, int min, int max, Metrics metrics) {
+        int m = graph.getEdgeCount();
+        long range = (long) max - min + 1;
+        if (m > 0 && range > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("Weight range too wide for counting sort: " + range);
+        }
+
+        int[] start = new int[m == 0 ? 1 : (int) range + 1];
+        for (int e = 0; e < m; e++) {
+            start[graph.edgeWeight(e) - min + 1]++;
+        }
+        for (int i = 1; i < start.length; i++) {
+            start[i] += start[i - 1];
+        }
+
+        // Edge ids are visited in increasing order, so each bucket stays sorted by id
+        long[] keys = new long[m];
+        for (int e = 0; e < m; e++) {
+            int w = graph.edgeWeight(e);
+            keys[start[w - min]++] = EdgeKeys.pack(w, e);
+        }
+        metrics.inc(Metrics.Counter.OTHER, m); // One distribution pass
+        return keys;
+    }
+
+    private static long[] radixSort(CsrGraph graph, int min, int max, Metrics metrics) {
+        int m = graph.getEdgeCount();
+        long[] keys = new long[m];
+        for (int e = 0; e < m; e++) {
+            keys[e] = EdgeKeys.pack(graph.edgeWeight(e), e);
+        }
+        long[] buffer = new long[m];
+        int[] count = new int[RADIX_MASK + 2];
+
+        // Digits of (weight - min) as an unsigned int; digits above the range's top bit are all zero
+        int span = max - min;
+        for (int shift = 0; shift < 32 && (span >>> shift) != 0; shift += RADIX_BITS) {
+            Arrays.fill(count, 0);
+            for (long key : keys) {
+                count[digit(key, min, shift) + 1]++;
+            }
+            for (int i = 1; i < count.length; i++) {
+                count[i] += count[i - 1];
+            }
+            for (long key : keys) {
+                buffer[count[digit(key, min, shift)]++] = key;
+            }
+
+            long[] swap = keys;
+            keys = buffer;
+            buffer = swap;
+            metrics.inc(Metrics.Counter.OTHER, m); // One distribution pass
+        }
+        return keys;
+    }
+
+    private static int digit(long key, int min, int shift) {
+        return ((EdgeKeys.weight(key) - min) >>> shift) & RADIX_MASK;
+    }
+}
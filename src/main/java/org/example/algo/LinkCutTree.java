@@ -0,0 +1,250 @@
+package org.example.algo;
+
+import java.util.Arrays;
+
+/**
+ * Link-cut tree (Sleator–Tarjan) over nodes [0..size-1] with long values.
+ * Supports link, cut, connectivity and path-maximum queries in O(log n)
+ * amortized. For MST maintenance, edges are modelled as nodes of their
+ * own (value = weight) between their endpoint nodes (value = MIN_VALUE),
+ * so the path maximum is the heaviest edge on the tree path.
+ * Not thread-safe.
+ */
+public class LinkCutTree {
+    private static final int NIL = -1;
+
+    private int[] left;
+    private int[] right;
+    private int[] parent;     // splay parent, or path-parent when x is a splay root
+    private boolean[] flip;   // pending subtree reversal
+    private long[] value;
+    private int[] maxNode;    // node with the largest value in the splay subtree
+    private int size;
+
+    // Scratch stack for pushing flips down before a splay
+    private int[] stack = new int[64];
+
+    public LinkCutTree(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        flip = new boolean[capacity];
+        value = new long[capacity];
+        maxNode = new int[capacity];
+    }
+
+    /**
+     * Add an isolated node and return its id.
+     */
+    public int addNode(long nodeValue) {
+        if (size == value.length) {
+            int capacity = size * 2;
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            flip = Arrays.copyOf(flip, capacity);
+            value = Arrays.copyOf(value, capacity);
+            maxNode = Arrays.copyOf(maxNode, capacity);
+        }
+        int x = size++;
+        reset(x, nodeValue);
+        return x;
+    }
+
+    /**
+     * Reinitialize an isolated node (e.g. to reuse a cut edge node).
+     */
+    public void reset(int x, long nodeValue) {
+        left[x] = NIL;
+        right[x] = NIL;
+        parent[x] = NIL;
+        flip[x] = false;
+        value[x] = nodeValue;
+        maxNode[x] = x;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getValue(int x) {
+        return value[x];
+    }
+
+    /**
+     * Change the value of node x in place, keeping its tree edges.
+     */
+    public void setValue(int x, long nodeValue) {
+        access(x);
+        value[x] = nodeValue;
+        update(x);
+    }
+
+    public boolean connected(int x, int y) {
+        return x == y || findRoot(x) == findRoot(y);
+    }
+
+    /**
+     * Join the trees of x and y with the tree edge x–y. They must be in
+     * different trees.
+     */
+    public void link(int x, int y) {
+        makeRoot(x);
+        if (findRoot(y) == x) {
+            throw new IllegalStateException("Nodes already connected: " + x + ", " + y);
+        }
+        parent[x] = y;
+    }
+
+    /**
+     * Remove the tree edge x–y, which must exist.
+     */
+    public void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        splay(y);
+        // After access(y) with x as root, x must be y's direct left child
+        if (left[y] != x || right[x] != NIL) {
+            throw new IllegalStateException("No tree edge between " + x + " and " + y);
+        }
+        left[y] = NIL;
+        parent[x] = NIL;
+        update(y);
+    }
+
+    /**
+     * Node with the maximum value on the tree path x..y (both inclusive).
+     * x and y must be connected.
+     */
+    public int pathMax(int x, int y) {
+        makeRoot(x);
+        access(y);
+        splay(y);
+        return maxNode[y];
+    }
+
+    // ==================== CORE OPERATIONS ====================
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void update(int x) {
+        int best = x;
+        int l = left[x];
+        int r = right[x];
+        if (l != NIL && value[maxNode[l]] > value[best]) {
+            best = maxNode[l];
+        }
+        if (r != NIL && value[maxNode[r]] > value[best]) {
+            best = maxNode[r];
+        }
+        maxNode[x] = best;
+    }
+
+    private void pushDown(int x) {
+        if (flip[x]) {
+            int tmp = left[x];
+            left[x] = right[x];
+            right[x] = tmp;
+            if (left[x] != NIL) {
+                flip[left[x]] ^= true;
+            }
+            if (right[x] != NIL) {
+                flip[right[x]] ^= true;
+            }
+            flip[x] = false;
+        }
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        boolean pWasRoot = isSplayRoot(p);
+
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NIL) {
+                parent[right[x]] = p;
+            }
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NIL) {
+                parent[left[x]] = p;
+            }
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+
+        if (!pWasRoot) {
+            if (left[g] == p) {
+                left[g] = x;
+            } else {
+                right[g] = x;
+            }
+        }
+        update(p);
+        update(x);
+    }
+
+    private void splay(int x) {
+        // Push pending flips top-down along the splay path (iteratively)
+        int depth = 0;
+        int y = x;
+        while (true) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth++] = y;
+            if (isSplayRoot(y)) {
+                break;
+            }
+            y = parent[y];
+        }
+        while (depth > 0) {
+            pushDown(stack[--depth]);
+        }
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            update(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flip[x] ^= true;
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        int root = x;
+        pushDown(root);
+        while (left[root] != NIL) {
+            root = left[root];
+            pushDown(root);
+        }
+        splay(root);
+        return root;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.algo;
+
+import java.util.Arrays;
+
+/**
+ * Growable binary min-heap of primitive longs (no boxing).
+ */
+public class LongBinaryHeap {
+    private long[] heap;
+    private int size;
+
+    public LongBinaryHeap(int initialCapacity) {
+        heap = new long[Math.max(1, initialCapacity)];
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void push(long key) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+
+        // Sift up
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    public long pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+
+        long min = heap[0];
+        long last = heap[--size];
+
+        // Sift down
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+
+        return min;
+    }
+}
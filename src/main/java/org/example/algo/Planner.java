@@ -0,0 +1,120 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+
+/**
+ * Picks an MST engine from a cheap O(V + E) pre-pass over the graph:
+ * vertex and edge counts, density, weight range and component count.
+ * <ul>
+ *   <li>no edges: packed Kruskal (nothing to sort)</li>
+ *   <li>dense and small enough for a V x V matrix: {@link PrimDense}</li>
+ *   <li>counting or radix sort applies: {@link KruskalRadix}</li>
+ *   <li>otherwise (few edges over a wide weight range): {@link KruskalPacked}</li>
+ * </ul>
+ * Only single-threaded engines are chosen; parallel Boruvka must be asked
+ * for by name.
+ */
+public class Planner {
+
+    /**
+     * Graph statistics from the pre-pass and the engine chosen for them.
+     */
+    public static class Plan {
+        private final int nodeCount;
+        private final int edgeCount;
+        private final int minWeight;
+        private final int maxWeight;
+        private final int components;
+        private final Algorithm algorithm;
+        private final String reason;
+
+        Plan(int nodeCount, int edgeCount, int minWeight, int maxWeight, int components,
+             Algorithm algorithm, String reason) {
+            this.nodeCount = nodeCount;
+            this.edgeCount = edgeCount;
+            this.minWeight = minWeight;
+            this.maxWeight = maxWeight;
+            this.components = components;
+            this.algorithm = algorithm;
+            this.reason = reason;
+        }
+
+        public int getNodeCount() {
+            return nodeCount;
+        }
+
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        /**
+         * 2E / (V(V-1)); 0 for fewer than two vertices.
+         */
+        public double getDensity() {
+            return nodeCount < 2 ? 0 : 2.0 * edgeCount / ((double) nodeCount * (nodeCount - 1));
+        }
+
+        public int getMinWeight() {
+            return minWeight;
+        }
+
+        public int getMaxWeight() {
+            return maxWeight;
+        }
+
+        public int getComponents() {
+            return components;
+        }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Plan{%s: %s, V=%d, E=%d, density=%.4f, weights=[%d, %d], components=%d}",
+                algorithm.getDisplayName(), reason, nodeCount, edgeCount, getDensity(),
+                minWeight, maxWeight, components);
+        }
+    }
+
+    public static Plan plan(CsrGraph graph) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+
+        int min = 0;
+        int max = 0;
+        DSU dsu = new DSU(n, DSU.FindStrategy.HALVING, DSU.UnionStrategy.SIZE);
+        int components = n;
+        for (int e = 0; e < m; e++) {
+            int w = graph.edgeWeight(e);
+            min = e == 0 ? w : Math.min(min, w);
+            max = e == 0 ? w : Math.max(max, w);
+            if (dsu.union(graph.edgeU(e), graph.edgeV(e))) {
+                components--;
+            }
+        }
+
+        Algorithm algorithm;
+        String reason;
+        if (components == n) {
+            algorithm = Algorithm.KRUSKAL_PACKED;
+            reason = "no edges between distinct vertices";
+        } else if (PrimDense.isDense(n, m)) {
+            algorithm = Algorithm.PRIM_DENSE;
+            reason = "dense graph";
+        } else if (KruskalRadix.selectSort(m, min, max) != KruskalRadix.SortMode.COMPARISON) {
+            algorithm = Algorithm.KRUSKAL_RADIX;
+            reason = "linear-time sort on weight range";
+        } else {
+            algorithm = Algorithm.KRUSKAL_PACKED;
+            reason = "few edges over a wide weight range";
+        }
+
+        return new Plan(n, m, min, max, components, algorithm, reason);
+    }
+}
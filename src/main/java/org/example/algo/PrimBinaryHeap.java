@@ -0,0 +1,76 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+
+import java.util.*;
+
+
+public class PrimBinaryHeap {
+
+    /**
+     * Compute MST using lazy Prim: frontier edges go into a binary heap and
+     * stale entries (both endpoints visited) are skipped when popped.
+     * O(E log E). Handles disconnected graphs (returns forest).
+     */
+    public static Result computeMST(Graph graph, Metrics metrics) {
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        int n = graph.getNodeCount();
+
+        if (n == 0) {
+            return new Result(new ArrayList<>(), 0);
+        }
+
+        boolean[] visited = new boolean[n];
+        LongBinaryHeap heap = new LongBinaryHeap(16);
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        // Handle potentially disconnected graph by processing all components
+        for (int startNode = 0; startNode < n; startNode++) {
+            if (visited[startNode]) {
+                continue;
+            }
+
+            visited[startNode] = true;
+            pushFrontier(graph, startNode, visited, heap, metrics);
+
+            while (!heap.isEmpty()) {
+                long key = heap.pop();
+                int edge = EdgeKeys.edge(key);
+                int u = graph.edgeU(edge);
+                int v = graph.edgeV(edge);
+
+                // Lazy deletion: edge no longer crosses the cut
+                if (visited[u] && visited[v]) {
+                    continue;
+                }
+
+                mstEdges.add(graph.getEdge(edge));
+                totalCost += graph.edgeWeight(edge);
+                metrics.inc(); // Count edge addition to MST
+
+                int newVertex = visited[u] ? v : u;
+                visited[newVertex] = true;
+                pushFrontier(graph, newVertex, visited, heap, metrics);
+            }
+        }
+
+        return new Result(mstEdges, totalCost);
+    }
+
+    private static void pushFrontier(CsrGraph graph, int vertex, boolean[] visited,
+                                     LongBinaryHeap heap, Metrics metrics) {
+        for (int slot = graph.adjStart(vertex); slot < graph.adjEnd(vertex); slot++) {
+            if (!visited[graph.adjTarget(slot)]) {
+                metrics.inc(Metrics.Counter.HEAP_OPS); // Count heap push
+                heap.push(EdgeKeys.pack(graph.adjWeight(slot), graph.adjEdge(slot)));
+            }
+        }
+    }
+}
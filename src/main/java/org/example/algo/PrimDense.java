@@ -0,0 +1,170 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+
+import java.util.*;
+
+/**
+ * Array-based Prim for dense graphs. Builds a V x V weight matrix, so it is
+ * limited to {@link #MAX_VERTICES} and only chosen when {@link #isDense}
+ * holds; at that density its O(V^2) scan beats heap-based engines.
+ */
+public class PrimDense {
+
+    /** Largest vertex count for which a V x V int matrix is built (16 MB). */
+    public static final int MAX_VERTICES = 1 << 11;
+
+    /** Edge density 2E / (V(V-1)) above which the O(V^2) scan beats heap-based engines. */
+    public static final double DENSITY_THRESHOLD = 0.25;
+
+    /**
+     * Whether a graph is dense enough (and small enough) for the matrix scan.
+     */
+    public static boolean isDense(int nodeCount, long edgeCount) {
+        if (nodeCount < 2 || nodeCount > MAX_VERTICES) {
+            return false;
+        }
+        double pairs = (double) nodeCount * (nodeCount - 1) / 2;
+        return edgeCount / pairs >= DENSITY_THRESHOLD;
+    }
+
+    /**
+     * Compute MST using array-based Prim over a V x V weight matrix:
+     * every step scans the distance array for the closest vertex, then
+     * relaxes its matrix row. O(V^2) regardless of E, with no heap and no
+     * per-edge objects. Handles disconnected graphs (returns forest).
+     */
+    public static Result computeMST(Graph graph, Metrics metrics) {
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        int n = graph.getNodeCount();
+
+        if (n == 0) {
+            return new Result(new ArrayList<>(), 0);
+        }
+
+        int missing = unusedWeight(graph);
+        int[] matrix = toMatrix(graph, missing);
+        int[] parent = spanningParents(matrix, n, missing, metrics);
+
+        // Map each tree link back to its edge: the lightest (weight, id) between the two vertices
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+        for (int v = 0; v < n; v++) {
+            if (parent[v] < 0) {
+                continue;
+            }
+            long best = Long.MAX_VALUE;
+            for (int slot = graph.adjStart(v); slot < graph.adjEnd(v); slot++) {
+                if (graph.adjTarget(slot) == parent[v]) {
+                    best = Math.min(best, EdgeKeys.pack(graph.adjWeight(slot), graph.adjEdge(slot)));
+                }
+            }
+            int edge = EdgeKeys.edge(best);
+            mstEdges.add(graph.getEdge(edge));
+            totalCost += graph.edgeWeight(edge);
+        }
+
+        return new Result(mstEdges, totalCost);
+    }
+
+    /**
+     * Prim on a symmetric row-major n x n weight matrix, where `missing`
+     * marks absent edges (the diagonal is ignored). Returns each vertex's
+     * parent in the spanning forest, or -1 for the root of each component.
+     */
+    public static int[] spanningParents(int[] matrix, int n, int missing, Metrics metrics) {
+        if ((long) n * n != matrix.length) {
+            throw new IllegalArgumentException("Matrix must have n * n = " + (long) n * n + " entries");
+        }
+
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        for (int step = 0; step < n; step++) {
+            // Closest vertex outside the tree; an unreachable one starts a new component
+            int u = -1;
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v] && (u < 0 || dist[v] < dist[u])) {
+                    u = v;
+                }
+            }
+            inTree[u] = true;
+            metrics.inc(Metrics.Counter.COMPARISONS, n); // Count selection scan
+
+            int row = u * n;
+            for (int v = 0; v < n; v++) {
+                int w = matrix[row + v];
+                if (!inTree[v] && w != missing && w < dist[v]) {
+                    dist[v] = w;
+                    parent[v] = u;
+                }
+            }
+            metrics.inc(Metrics.Counter.COMPARISONS, n); // Count row relaxation
+        }
+
+        return parent;
+    }
+
+    /**
+     * Row-major matrix of the lightest weight between each vertex pair.
+     */
+    private static int[] toMatrix(CsrGraph graph, int missing) {
+        int n = graph.getNodeCount();
+        if (n > MAX_VERTICES) {
+            throw new IllegalArgumentException("Too many vertices for a dense matrix: " + n);
+        }
+
+        int[] matrix = new int[n * n];
+        Arrays.fill(matrix, missing);
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            int u = graph.edgeU(e);
+            int v = graph.edgeV(e);
+            int w = graph.edgeWeight(e);
+            if (u != v && (matrix[u * n + v] == missing || w < matrix[u * n + v])) {
+                matrix[u * n + v] = w;
+                matrix[v * n + u] = w;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * A weight value no edge uses, to serve as the missing-edge sentinel.
+     */
+    private static int unusedWeight(CsrGraph graph) {
+        int m = graph.getEdgeCount();
+        boolean maxUsed = false;
+        for (int e = 0; e < m && !maxUsed; e++) {
+            maxUsed = graph.edgeWeight(e) == Integer.MAX_VALUE;
+        }
+        if (!maxUsed) {
+            return Integer.MAX_VALUE;
+        }
+
+        // MAX_VALUE is taken: find the first gap from the bottom of the range
+        int[] weights = new int[m];
+        for (int e = 0; e < m; e++) {
+            weights[e] = graph.edgeWeight(e);
+        }
+        Arrays.sort(weights);
+        int candidate = Integer.MIN_VALUE;
+        for (int w : weights) {
+            if (w > candidate) {
+                break;
+            }
+            if (w == candidate) {
+                candidate++;
+            }
+        }
+        return candidate;
+    }
+}
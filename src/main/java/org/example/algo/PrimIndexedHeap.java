@@ -0,0 +1,82 @@
+package org.example.algo;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+
+import java.util.*;
+
+
+public class PrimIndexedHeap {
+
+    public static final int DEFAULT_ARITY = 4;
+
+    /**
+     * Compute MST using eager Prim: one heap entry per vertex holding its
+     * cheapest known connecting edge, updated with decrease-key.
+     * O(E log_d V). Handles disconnected graphs (returns forest).
+     */
+    public static Result computeMST(Graph graph, Metrics metrics) {
+        return computeMST(new CsrGraph(graph), metrics, DEFAULT_ARITY);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        return computeMST(graph, metrics, DEFAULT_ARITY);
+    }
+
+    public static Result computeMST(CsrGraph graph, Metrics metrics, int arity) {
+        int n = graph.getNodeCount();
+
+        if (n == 0) {
+            return new Result(new ArrayList<>(), 0);
+        }
+
+        boolean[] visited = new boolean[n];
+        IndexedDHeap heap = new IndexedDHeap(n, arity);
+        List<Edge> mstEdges = new ArrayList<>();
+        int totalCost = 0;
+
+        // Handle potentially disconnected graph by processing all components
+        for (int startNode = 0; startNode < n; startNode++) {
+            if (visited[startNode]) {
+                continue;
+            }
+
+            visited[startNode] = true;
+            relax(graph, startNode, visited, heap, metrics);
+
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                int edge = EdgeKeys.edge(heap.keyOf(vertex));
+
+                mstEdges.add(graph.getEdge(edge));
+                totalCost += graph.edgeWeight(edge);
+                metrics.inc(); // Count edge addition to MST
+
+                visited[vertex] = true;
+                relax(graph, vertex, visited, heap, metrics);
+            }
+        }
+
+        return new Result(mstEdges, totalCost);
+    }
+
+    private static void relax(CsrGraph graph, int vertex, boolean[] visited,
+                              IndexedDHeap heap, Metrics metrics) {
+        for (int slot = graph.adjStart(vertex); slot < graph.adjEnd(vertex); slot++) {
+            int target = graph.adjTarget(slot);
+            if (visited[target]) {
+                continue;
+            }
+
+            metrics.inc(Metrics.Counter.HEAP_OPS); // Count candidate edge check (insert or decrease-key)
+            long key = EdgeKeys.pack(graph.adjWeight(slot), graph.adjEdge(slot));
+            if (!heap.contains(target)) {
+                heap.insert(target, key);
+            } else if (key < heap.keyOf(target)) {
+                heap.decreaseKey(target, key);
+            }
+        }
+    }
+}
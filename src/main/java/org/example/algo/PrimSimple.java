@@ -1,5 +1,6 @@
 package org.example.algo;
 
+import org.example.model.CsrGraph;
 import org.example.model.Edge;
 import org.example.model.Graph;
 import org.example.util.Metrics;
@@ -14,77 +15,77 @@ public class PrimSimple {
      * Handles disconnected graphs (returns forest).
      */
     public static Result computeMST(Graph graph, Metrics metrics) {
-        List<String> nodes = graph.getNodes();
-        List<Edge> allEdges = graph.getEdges();
+        return computeMST(new CsrGraph(graph), metrics);
+    }
+
+    /**
+     * Frontier scan over a CSR graph (int vertex ids, no String hashing).
+     */
+    public static Result computeMST(CsrGraph graph, Metrics metrics) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
 
-        if (nodes.isEmpty()) {
+        if (n == 0) {
             return new Result(new ArrayList<>(), 0);
         }
 
-        Set<String> visited = new HashSet<>();
+        boolean[] visited = new boolean[n];
         List<Edge> mstEdges = new ArrayList<>();
         int totalCost = 0;
 
         // Handle potentially disconnected graph by processing all components
-        for (String startNode : nodes) {
-            if (visited.contains(startNode)) {
+        for (int startNode = 0; startNode < n; startNode++) {
+            if (visited[startNode]) {
                 continue; // Already processed in previous component
             }
 
             // Start new component from this node
-            visited.add(startNode);
+            visited[startNode] = true;
 
             // Grow this component until no more reachable unvisited nodes
             while (true) {
-                Edge minEdge = null;
+                int minEdge = -1;
                 int minWeight = Integer.MAX_VALUE;
 
                 // Scan all edges from visited to unvisited (frontier scan)
-                for (Edge edge : allEdges) {
-                    String u = edge.u;
-                    String v = edge.v;
-
+                for (int e = 0; e < m; e++) {
                     // Check if edge crosses the cut (visited → unvisited)
-                    boolean uVisited = visited.contains(u);
-                    boolean vVisited = visited.contains(v);
-
-                    if (uVisited && vVisited) {
-                        // Both visited: skip (edge within component)
-                        continue;
-                    }
+                    boolean uVisited = visited[graph.edgeU(e)];
+                    boolean vVisited = visited[graph.edgeV(e)];
 
-                    if (!uVisited && !vVisited) {
-                        // Both unvisited: skip (edge in different component)
+                    if (uVisited == vVisited) {
+                        // Both visited (inside component) or both unvisited (other component)
                         continue;
                     }
 
                     // Edge crosses the cut: candidate for MST
-                    metrics.inc(); // Count candidate edge check/comparison
+                    metrics.inc(Metrics.Counter.COMPARISONS); // Count candidate edge check/comparison
 
-                    if (edge.w < minWeight) {
-                        minWeight = edge.w;
-                        minEdge = edge;
+                    int w = graph.edgeWeight(e);
+                    if (minEdge == -1 || w < minWeight) {
+                        minWeight = w;
+                        minEdge = e;
                     }
                 }
 
                 // If no edge found, this component is complete
-                if (minEdge == null) {
+                if (minEdge == -1) {
                     break;
                 }
 
                 // Add minimum edge to MST
-                mstEdges.add(minEdge);
+                mstEdges.add(graph.getEdge(minEdge));
                 totalCost += minWeight;
                 metrics.inc(); // Count edge addition to MST
 
                 // Mark the new vertex as visited
-                String newVertex;
-                if (visited.contains(minEdge.u)) {
-                    newVertex = minEdge.v;
+                int u = graph.edgeU(minEdge);
+                int v = graph.edgeV(minEdge);
+                if (visited[u]) {
+                    visited[v] = true;
                 } else {
-                    newVertex = minEdge.u;
+                    visited[u] = true;
                 }
-                visited.add(newVertex);
             }
         }
 
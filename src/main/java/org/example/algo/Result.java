@@ -2,6 +2,7 @@ package org.example.algo;
 
 import org.example.model.Edge;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -12,12 +13,15 @@ public class Result {
     private final int totalCost;
 
     public Result(List<Edge> mstEdges, int totalCost) {
-        this.mstEdges = new ArrayList<>(mstEdges);
+        this.mstEdges = Collections.unmodifiableList(new ArrayList<>(mstEdges));
         this.totalCost = totalCost;
     }
 
+    /**
+     * Read-only view of the MST edges (no copy; the snapshot is immutable).
+     */
     public List<Edge> getMstEdges() {
-        return new ArrayList<>(mstEdges);
+        return mstEdges;
     }
 
     public int getTotalCost() {
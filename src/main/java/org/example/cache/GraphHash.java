@@ -0,0 +1,112 @@
+package org.example.cache;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canonical content hash of a {@link Graph}.
+ * The hash covers the sorted node names and the sorted edge multiset, with
+ * each edge's endpoints ordered, so two graphs listing the same vertices and
+ * edges in any order (or with swapped endpoints) hash the same.
+ */
+public final class GraphHash {
+
+    private GraphHash() {
+    }
+
+    /**
+     * SHA-256 of the canonical form, as lowercase hex.
+     */
+    public static String of(Graph graph) {
+        List<Edge> edges = graph.getEdges();
+        int n = graph.getNodeCount();
+        int m = edges.size();
+        MessageDigest digest = sha256();
+
+        String[] sorted = graph.getNodes().toArray(new String[0]);
+        Arrays.sort(sorted);
+        digest.update(ints(n));
+        for (String name : sorted) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            digest.update(ints(bytes.length));
+            digest.update(bytes);
+        }
+
+        // Vertices are identified by the rank of their name among distinct names
+        Map<String, Integer> rank = new HashMap<>();
+        for (String name : sorted) {
+            rank.putIfAbsent(name, rank.size());
+        }
+        int distinct = rank.size();
+
+        // Bucket edges by lower endpoint rank (counting sort), then sort each
+        // bucket's packed (higher rank, weight) keys as primitives
+        int[] low = new int[m];
+        long[] keys = new long[m];
+        int[] start = new int[distinct + 1];
+        for (int e = 0; e < m; e++) {
+            Edge edge = edges.get(e);
+            int ru = rankOf(rank, edge.u);
+            int rv = rankOf(rank, edge.v);
+            low[e] = Math.min(ru, rv);
+            keys[e] = (long) Math.max(ru, rv) << 32 | (edge.w ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            start[low[e] + 1]++;
+        }
+        for (int r = 0; r < distinct; r++) {
+            start[r + 1] += start[r];
+        }
+        long[] bucketed = new long[m];
+        int[] cursor = Arrays.copyOf(start, distinct);
+        for (int e = 0; e < m; e++) {
+            bucketed[cursor[low[e]]++] = keys[e];
+        }
+
+        digest.update(ints(m));
+        for (int r = 0; r < distinct; r++) {
+            Arrays.sort(bucketed, start[r], start[r + 1]);
+            for (int i = start[r]; i < start[r + 1]; i++) {
+                long key = bucketed[i];
+                digest.update(ints(r, (int) (key >>> 32), (int) key ^ Integer.MIN_VALUE));
+            }
+        }
+
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static int rankOf(Map<String, Integer> rank, String name) {
+        Integer r = rank.get(name);
+        if (r == null) {
+            throw new IllegalArgumentException("Edge references unknown vertex: " + name);
+        }
+        return r;
+    }
+
+    private static byte[] ints(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 * values.length);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed cache of computed values, keyed by {@link GraphHash}.
+ * Two tiers: an in-memory LRU of bounded size, and an optional directory
+ * holding one JSON file per key that survives across runs. A disk hit is
+ * promoted into memory. Safe for concurrent use.
+ */
+public class ResultCache<V> {
+    private final Map<String, V> memory;
+    private final Path directory;
+    private final Class<V> type;
+    private final Gson gson = new Gson();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param memoryCapacity max entries kept in memory (0 disables the tier)
+     * @param directory      disk tier location, or null for memory only
+     */
+    public ResultCache(int memoryCapacity, Path directory, Class<V> type) throws IOException {
+        if (memoryCapacity < 0) {
+            throw new IllegalArgumentException("memoryCapacity must not be negative");
+        }
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > memoryCapacity;
+            }
+        };
+        this.directory = directory;
+        this.type = type;
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Cached value for the key, or null on a miss.
+     */
+    public V get(String key) throws IOException {
+        checkKey(key);
+        synchronized (memory) {
+            V value = memory.get(key);
+            if (value != null) {
+                memoryHits.incrementAndGet();
+                return value;
+            }
+        }
+
+        V value = readDisk(key);
+        if (value == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        diskHits.incrementAndGet();
+        synchronized (memory) {
+            memory.put(key, value);
+        }
+        return value;
+    }
+
+    public void put(String key, V value) throws IOException {
+        checkKey(key);
+        synchronized (memory) {
+            memory.put(key, value);
+        }
+        writeDisk(key, value);
+    }
+
+    public long getMemoryHits() {
+        return memoryHits.get();
+    }
+
+    public long getDiskHits() {
+        return diskHits.get();
+    }
+
+    public long getHits() {
+        return memoryHits.get() + diskHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // ==================== DISK TIER ====================
+
+    private V readDisk(String key) throws IOException {
+        if (directory == null) {
+            return null;
+        }
+        Path file = directory.resolve(key + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            return null; // Corrupt or outdated entry: recompute and overwrite
+        }
+    }
+
+    private void writeDisk(String key, V value) throws IOException {
+        if (directory == null) {
+            return;
+        }
+        // Write to a temp file and move into place, so readers never see a partial entry
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(value, type, writer);
+            }
+            Files.move(temp, directory.resolve(key + ".json"),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void checkKey(String key) {
+        // Keys double as file names: hex digests, optionally with a "-suffix"
+        if (key.isEmpty() || !key.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || c == '-')) {
+            throw new IllegalArgumentException("Cache key must be lowercase letters, digits or '-': " + key);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package org.example.gen;
+
+import org.example.io.JsonGraphWriter;
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible synthetic graphs for benchmarks and stress tests.
+ * Every shape emits edges into an {@link EdgeSink}, so large graphs can be
+ * streamed straight to a file without materializing Edge objects; use
+ * {@link #toGraph} when a {@link Graph} is wanted. The same seed always
+ * yields the same graph. Vertices are named "v0".."v{n-1}" and weights are
+ * uniform in [1, maxWeight].
+ */
+public class GraphGenerator {
+
+    /**
+     * Receives generated edges as int vertex ids.
+     */
+    @FunctionalInterface
+    public interface EdgeSink {
+        void edge(int u, int v, int w);
+    }
+
+    public enum Shape {
+        ERDOS_RENYI("er"),
+        GRID("grid"),
+        GEOMETRIC("geometric"),
+        POWER_LAW("power-law"),
+        COMPLETE("complete"),
+        MULTI_COMPONENT("multi");
+
+        private final String displayName;
+
+        Shape(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public static Shape fromName(String name) {
+            for (Shape shape : values()) {
+                if (shape.displayName.equalsIgnoreCase(name)) {
+                    return shape;
+                }
+            }
+            throw new IllegalArgumentException("Unknown graph shape: " + name);
+        }
+    }
+
+    private final Random random;
+    private final int maxWeight;
+
+    public GraphGenerator(long seed, int maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("maxWeight must be >= 1: " + maxWeight);
+        }
+        this.random = new Random(seed);
+        this.maxWeight = maxWeight;
+    }
+
+    private int weight() {
+        return 1 + random.nextInt(maxWeight);
+    }
+
+    // ==================== SHAPES ====================
+
+    /**
+     * G(n, m): m edges between uniformly random distinct endpoints.
+     * Parallel edges may occur. Returns the vertex count.
+     */
+    public int erdosRenyi(int n, long m, EdgeSink sink) {
+        if (n < 2) {
+            return n;
+        }
+        for (long i = 0; i < m; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n - 1);
+            if (v >= u) {
+                v++; // Skip u without rejection sampling
+            }
+            sink.edge(u, v, weight());
+        }
+        return n;
+    }
+
+    /**
+     * rows x cols 4-neighbour grid. Returns the vertex count.
+     */
+    public int grid(int rows, int cols, EdgeSink sink) {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c;
+                if (c + 1 < cols) {
+                    sink.edge(v, v + 1, weight());
+                }
+                if (r + 1 < rows) {
+                    sink.edge(v, v + cols, weight());
+                }
+            }
+        }
+        return rows * cols;
+    }
+
+    /**
+     * Random geometric graph: n points in the unit square, joined when closer
+     * than a radius chosen for the requested expected average degree. Uses a
+     * cell grid so generation is O(n + m). Returns the vertex count.
+     */
+    public int geometric(int n, double avgDegree, EdgeSink sink) {
+        double radius = Math.sqrt(avgDegree / (Math.PI * Math.max(1, n)));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble();
+            y[i] = random.nextDouble();
+        }
+
+        // Cells no smaller than the radius, and no more of them than points
+        int cells = Math.max(1, Math.min((int) (1.0 / radius), Math.min((int) Math.sqrt(n), 1 << 15)));
+        // Bucket points by cell (counting sort)
+        int[] cellStart = new int[cells * cells + 1];
+        int[] cellOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = cell(x[i], cells) * cells + cell(y[i], cells);
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < cells * cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] points = new int[n];
+        int[] cursor = Arrays.copyOf(cellStart, cells * cells);
+        for (int i = 0; i < n; i++) {
+            points[cursor[cellOf[i]]++] = i;
+        }
+
+        double radiusSq = radius * radius;
+        for (int i = 0; i < n; i++) {
+            int cx = cellOf[i] / cells;
+            int cy = cellOf[i] % cells;
+            for (int nx = Math.max(0, cx - 1); nx <= Math.min(cells - 1, cx + 1); nx++) {
+                for (int ny = Math.max(0, cy - 1); ny <= Math.min(cells - 1, cy + 1); ny++) {
+                    int c = nx * cells + ny;
+                    for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                        int j = points[k];
+                        if (j <= i) {
+                            continue; // Emit each pair once
+                        }
+                        double dx = x[i] - x[j];
+                        double dy = y[i] - y[j];
+                        if (dx * dx + dy * dy <= radiusSq) {
+                            sink.edge(i, j, weight());
+                        }
+                    }
+                }
+            }
+        }
+        return n;
+    }
+
+    private static int cell(double coordinate, int cells) {
+        return Math.min(cells - 1, (int) (coordinate * cells));
+    }
+
+    /**
+     * Barabási–Albert preferential attachment: each new vertex links to k
+     * existing vertices chosen proportionally to degree, giving a power-law
+     * degree distribution. Returns the vertex count.
+     */
+    public int powerLaw(int n, int k, EdgeSink sink) {
+        if (n < 2 || k < 1) {
+            return n;
+        }
+
+        // Every edge endpoint appears once, so sampling it is degree-proportional
+        int[] endpoints = new int[(int) Math.min(Integer.MAX_VALUE - 8, 2L * n * k)];
+        int filled = 0;
+
+        int seedSize = Math.min(n, k + 1);
+        for (int v = 1; v < seedSize; v++) {
+            for (int u = 0; u < v; u++) {
+                sink.edge(u, v, weight());
+                endpoints[filled++] = u;
+                endpoints[filled++] = v;
+            }
+        }
+
+        int[] targets = new int[k];
+        for (int v = seedSize; v < n; v++) {
+            int chosen = 0;
+            while (chosen < k) {
+                int target = endpoints[random.nextInt(filled)];
+                if (!contains(targets, chosen, target)) {
+                    targets[chosen++] = target;
+                }
+            }
+            for (int i = 0; i < k && filled + 2 <= endpoints.length; i++) {
+                sink.edge(targets[i], v, weight());
+                endpoints[filled++] = targets[i];
+                endpoints[filled++] = v;
+            }
+        }
+        return n;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Complete graph K_n. Returns the vertex count.
+     */
+    public int complete(int n, EdgeSink sink) {
+        for (int u = 0; u < n; u++) {
+            for (int v = u + 1; v < n; v++) {
+                sink.edge(u, v, weight());
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Exactly `components` connected components of (nearly) equal size.
+     * Each component is a random spanning tree plus random extra edges up
+     * to the requested average degree. Returns the vertex count.
+     */
+    public int multiComponent(int n, int components, double avgDegree, EdgeSink sink) {
+        components = Math.max(1, Math.min(components, n));
+        int start = 0;
+        for (int c = 0; c < components; c++) {
+            int size = n / components + (c < n % components ? 1 : 0);
+
+            // Random spanning tree keeps the component connected
+            for (int i = 1; i < size; i++) {
+                sink.edge(start + random.nextInt(i), start + i, weight());
+            }
+
+            long extra = Math.max(0, (long) (size * avgDegree / 2) - (size - 1));
+            if (size >= 2) {
+                int offset = start;
+                erdosRenyi(size, extra, (u, v, w) -> sink.edge(offset + u, offset + v, w));
+            }
+            start += size;
+        }
+        return n;
+    }
+
+    // ==================== OUTPUT ====================
+
+    /**
+     * Collects generated edges into a {@link Graph}.
+     */
+    public static Graph toGraph(Generation generation) {
+        List<Edge> edges = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int n = generation.generate((u, v, w) -> edges.add(new Edge(vertexName(u), vertexName(v), w)));
+        for (int i = 0; i < n; i++) {
+            names.add(vertexName(i));
+        }
+        return new Graph(names, edges);
+    }
+
+    /**
+     * A deferred call to one of the shape methods, returning the vertex count.
+     */
+    @FunctionalInterface
+    public interface Generation {
+        int generate(EdgeSink sink);
+    }
+
+    public static String vertexName(int v) {
+        return "v" + v;
+    }
+
+    /**
+     * Vertex count {@link #generate} will produce for these parameters
+     * (grids round up to a square).
+     */
+    public static int vertexCount(Shape shape, int vertices) {
+        if (shape == Shape.GRID) {
+            int side = (int) Math.ceil(Math.sqrt(vertices));
+            return side * side;
+        }
+        return vertices;
+    }
+
+    /**
+     * Run one shape with the common parameter set used by the command line.
+     */
+    public int generate(Shape shape, int vertices, double avgDegree, int components, EdgeSink sink) {
+        switch (shape) {
+            case ERDOS_RENYI:
+                return erdosRenyi(vertices, (long) (vertices * avgDegree / 2), sink);
+            case GRID:
+                int side = (int) Math.ceil(Math.sqrt(vertices));
+                return grid(side, side, sink);
+            case GEOMETRIC:
+                return geometric(vertices, avgDegree, sink);
+            case POWER_LAW:
+                return powerLaw(vertices, Math.max(1, (int) Math.round(avgDegree / 2)), sink);
+            case COMPLETE:
+                return complete(vertices, sink);
+            default:
+                return multiComponent(vertices, components, avgDegree, sink);
+        }
+    }
+
+    // ==================== MAIN ====================
+
+    /**
+     * Write generated graphs in the input JSON schema, e.g.
+     * --shape er --vertices 1000000 --degree 8 --graphs 3 --seed 1 --out big.json
+     */
+    public static void main(String[] args) {
+        Shape shape = Shape.ERDOS_RENYI;
+        int vertices = 1000;
+        double degree = 8;
+        int components = 4;
+        int graphs = 1;
+        int maxWeight = 1000;
+        long seed = 42;
+        String outputPath = "generated.json";
+
+        for (int i = 0; i < args.length; i++) {
+            if ("--shape".equals(args[i]) && i + 1 < args.length) shape = Shape.fromName(args[++i]);
+            else if ("--vertices".equals(args[i]) && i + 1 < args.length) vertices = Integer.parseInt(args[++i]);
+            else if ("--degree".equals(args[i]) && i + 1 < args.length) degree = Double.parseDouble(args[++i]);
+            else if ("--components".equals(args[i]) && i + 1 < args.length) components = Integer.parseInt(args[++i]);
+            else if ("--graphs".equals(args[i]) && i + 1 < args.length) graphs = Integer.parseInt(args[++i]);
+            else if ("--max-weight".equals(args[i]) && i + 1 < args.length) maxWeight = Integer.parseInt(args[++i]);
+            else if ("--seed".equals(args[i]) && i + 1 < args.length) seed = Long.parseLong(args[++i]);
+            else if ("--out".equals(args[i]) && i + 1 < args.length) outputPath = args[++i];
+        }
+
+        try (JsonGraphWriter writer = new JsonGraphWriter(outputPath)) {
+            for (int g = 0; g < graphs; g++) {
+                // Each graph gets its own seed so graphs are independently reproducible
+                GraphGenerator generator = new GraphGenerator(seed + g, maxWeight);
+                writer.beginGraph(String.valueOf(g + 1), vertexCount(shape, vertices), GraphGenerator::vertexName);
+                generator.generate(shape, vertices, degree, components, (u, v, w) -> {
+                    try {
+                        writer.edge(vertexName(u), vertexName(v), w);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.endGraph();
+            }
+            System.out.println("Wrote " + graphs + " " + shape.getDisplayName() + " graph(s) to " + outputPath);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Error: " + e.getMessage());
+        }
+    }
+}
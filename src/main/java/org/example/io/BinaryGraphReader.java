@@ -0,0 +1,91 @@
+package org.example.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Reader for the binary graph format written by {@link BinaryGraphWriter}.
+ * Each graph section is memory-mapped with {@link FileChannel#map}, so
+ * opening a graph costs no parsing; only {@link MappedGraph#toGraph()}
+ * copies data onto the heap. Sections are mapped one at a time, which keeps
+ * files larger than 2 GB readable as long as each graph fits in one mapping.
+ */
+public class BinaryGraphReader implements GraphSource {
+    private static final int FILE_HEADER_BYTES = 8;
+
+    private final FileChannel channel;
+    private final long size;
+    private long position;
+
+    public BinaryGraphReader(String path) throws IOException {
+        this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            ByteBuffer header = readFully(0, FILE_HEADER_BYTES);
+            if (header.getInt() != BinaryGraphWriter.MAGIC) {
+                throw new IOException("Not a binary graph file: " + path);
+            }
+            int version = header.getInt();
+            if (version != BinaryGraphWriter.VERSION) {
+                throw new IOException("Unsupported binary graph version " + version + ": " + path);
+            }
+            this.position = FILE_HEADER_BYTES;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < size;
+    }
+
+    @Override
+    public JsonIO.InputGraph next() {
+        try {
+            MappedGraph graph = nextMapped();
+            return new JsonIO.InputGraph(graph.getId(), graph.toGraph());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Map the next graph section without building model objects.
+     */
+    public MappedGraph nextMapped() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long sectionBytes = readFully(position, 8).getLong();
+        long start = position + 8;
+        if (sectionBytes < 0 || sectionBytes > size - start || sectionBytes > Integer.MAX_VALUE) {
+            throw new IOException("Corrupt graph section at offset " + position);
+        }
+
+        ByteBuffer section = channel.map(FileChannel.MapMode.READ_ONLY, start, sectionBytes);
+        position = start + sectionBytes;
+        return new MappedGraph(section);
+    }
+
+    private ByteBuffer readFully(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of binary graph file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
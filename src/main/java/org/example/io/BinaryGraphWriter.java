@@ -0,0 +1,140 @@
+package org.example.io;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writer for the binary graph format read by {@link BinaryGraphReader}.
+ * All values are big-endian; int arrays start on 4-byte boundaries so the
+ * reader can view them in place.
+ *
+ * <pre>
+ * file    := MAGIC:int VERSION:int graph*
+ * graph   := sectionBytes:long vertexCount:int edgeCount:int idBytes:int nameBytes:int
+ *            id:utf8 (padded to 4)
+ *            nameOffsets:int[vertexCount + 1] names:utf8 (padded to 4)
+ *            edgeU:int[edgeCount] edgeV:int[edgeCount] weights:int[edgeCount]
+ * </pre>
+ *
+ * sectionBytes counts everything after itself, so readers can skip or map
+ * one graph at a time.
+ */
+public class BinaryGraphWriter implements Closeable {
+    static final int MAGIC = 0x4D535447; // "MSTG"
+    static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DataOutputStream out;
+
+    public BinaryGraphWriter(String path) throws IOException {
+        this(new FileOutputStream(path));
+    }
+
+    public BinaryGraphWriter(OutputStream target) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(target, BUFFER_SIZE));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    public void write(String id, Graph graph) throws IOException {
+        // Endpoint ids come from the graph's interned ids, no name hashing
+        CsrGraph csr = new CsrGraph(graph);
+        int n = csr.getNodeCount();
+        int m = csr.getEdgeCount();
+
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[][] names = new byte[n][];
+        int nameBytes = 0;
+        for (int v = 0; v < n; v++) {
+            names[v] = csr.getNodeName(v).getBytes(StandardCharsets.UTF_8);
+            nameBytes += names[v].length;
+        }
+
+        long sectionBytes = 16L + padded(idBytes.length) + 4L * (n + 1) + padded(nameBytes) + 12L * m;
+        out.writeLong(sectionBytes);
+        out.writeInt(n);
+        out.writeInt(m);
+        out.writeInt(idBytes.length);
+        out.writeInt(nameBytes);
+
+        out.write(idBytes);
+        pad(idBytes.length);
+
+        int offset = 0;
+        out.writeInt(offset);
+        for (byte[] name : names) {
+            offset += name.length;
+            out.writeInt(offset);
+        }
+        for (byte[] name : names) {
+            out.write(name);
+        }
+        pad(nameBytes);
+
+        for (int e = 0; e < m; e++) {
+            out.writeInt(csr.edgeU(e));
+        }
+        for (int e = 0; e < m; e++) {
+            out.writeInt(csr.edgeV(e));
+        }
+        for (int e = 0; e < m; e++) {
+            out.writeInt(csr.edgeWeight(e));
+        }
+    }
+
+    static long padded(int bytes) {
+        return (bytes + 3L) & ~3L;
+    }
+
+    private void pad(int bytes) throws IOException {
+        for (long i = bytes; i < padded(bytes); i++) {
+            out.write(0);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Convert a JSON input file to the binary format, one graph at a time.
+     * Returns the number of graphs written.
+     */
+    public static int convert(String jsonPath, String binaryPath) throws IOException {
+        int count = 0;
+        try (JsonGraphReader reader = new JsonGraphReader(jsonPath);
+             BinaryGraphWriter writer = new BinaryGraphWriter(binaryPath)) {
+            while (reader.hasNext()) {
+                JsonIO.InputGraph input = reader.next();
+                writer.write(input.id, input.graph);
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count;
+    }
+
+    public static void main(String[] args) {
+        String inputPath = "input_example.json";
+        String outputPath = "input_example.mstg";
+
+        for (int i = 0; i < args.length; i++) {
+            if ("--in".equals(args[i]) && i + 1 < args.length) inputPath = args[++i];
+            else if ("--out".equals(args[i]) && i + 1 < args.length) outputPath = args[++i];
+        }
+
+        try {
+            int count = convert(inputPath, outputPath);
+            System.out.println("Converted " + count + " graph(s) to " + outputPath);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
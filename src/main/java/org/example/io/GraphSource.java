@@ -0,0 +1,30 @@
+package org.example.io;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Sequence of input graphs read from a file, one graph per next().
+ * I/O failures during iteration surface as UncheckedIOException.
+ */
+public interface GraphSource extends Iterator<JsonIO.InputGraph>, Closeable {
+
+    /**
+     * Open a graph file, choosing the binary or JSON reader by its leading bytes.
+     */
+    static GraphSource open(String path) throws IOException {
+        return isBinary(path) ? new BinaryGraphReader(path) : new JsonGraphReader(path);
+    }
+
+    private static boolean isBinary(String path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(path))) {
+            return in.readInt() == BinaryGraphWriter.MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+}
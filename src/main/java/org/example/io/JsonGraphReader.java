@@ -0,0 +1,261 @@
+package org.example.io;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.example.model.Graph;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming reader for the input JSON schema.
+ * Yields one graph at a time, so only the graph being parsed is held in
+ * memory instead of the whole document tree. Accepts the same liberal
+ * formats as {@link JsonIO#readInputs}. Vertex names are interned to dense
+ * int ids during parsing, so graphs arrive with int edge endpoints and the
+ * algorithms never hash names.
+ */
+public class JsonGraphReader implements GraphSource {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final JsonReader reader;
+    private boolean finished;
+
+    public JsonGraphReader(String path) throws IOException {
+        this(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+    }
+
+    public JsonGraphReader(Reader source) throws IOException {
+        this.reader = new JsonReader(new BufferedReader(source, BUFFER_SIZE));
+        try {
+            seekGraphsArray();
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Position the reader at the first element of the top-level "graphs" array.
+     */
+    private void seekGraphsArray() throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("graphs".equals(reader.nextName())) {
+                reader.beginArray();
+                return;
+            }
+            reader.skipValue();
+        }
+        throw new IOException("Input has no \"graphs\" array");
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        try {
+            if (reader.hasNext()) {
+                return true;
+            }
+            reader.endArray();
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public JsonIO.InputGraph next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return readGraph();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remaining graphs as a sequential stream (closing the stream closes the reader).
+     */
+    public Stream<JsonIO.InputGraph> stream() {
+        Spliterator<JsonIO.InputGraph> spliterator =
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private JsonIO.InputGraph readGraph() throws IOException {
+        String graphId = null;
+        GraphIds ids = new GraphIds();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    graphId = reader.nextString();
+                    break;
+                case "nodes":
+                    readNodes(ids);
+                    break;
+                case "edges":
+                    readEdges(ids);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (graphId == null) {
+            throw new IOException("Graph without \"id\" at " + reader.getPath());
+        }
+        return new JsonIO.InputGraph(graphId, ids.toGraph(graphId));
+    }
+
+    /**
+     * Interns vertex names to dense ids while one graph is parsed.
+     * Names get a provisional id on first sight (nodes and edges may come in
+     * either order); toGraph() remaps them to node-list positions.
+     */
+    private static class GraphIds {
+        final Map<String, Integer> internIds = new HashMap<>();
+        final List<String> internNames = new ArrayList<>();
+        final List<Integer> declared = new ArrayList<>();
+        int[] edgeU = new int[16];
+        int[] edgeV = new int[16];
+        int[] weights = new int[16];
+        int edgeCount;
+
+        int intern(String name) {
+            Integer id = internIds.get(name);
+            if (id == null) {
+                id = internNames.size();
+                internIds.put(name, id);
+                internNames.add(name);
+            }
+            return id;
+        }
+
+        void addNode(String name) {
+            declared.add(intern(name));
+        }
+
+        void addEdge(String from, String to, int weight) {
+            if (edgeCount == weights.length) {
+                int capacity = edgeCount * 2;
+                edgeU = Arrays.copyOf(edgeU, capacity);
+                edgeV = Arrays.copyOf(edgeV, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            edgeU[edgeCount] = intern(from);
+            edgeV[edgeCount] = intern(to);
+            weights[edgeCount] = weight;
+            edgeCount++;
+        }
+
+        Graph toGraph(String graphId) throws IOException {
+            // Node-list position per interned name; a repeated node keeps its last position
+            int[] position = new int[internNames.size()];
+            Arrays.fill(position, -1);
+            List<String> nodes = new ArrayList<>(declared.size());
+            for (int i = 0; i < declared.size(); i++) {
+                int id = declared.get(i);
+                position[id] = i;
+                nodes.add(internNames.get(id));
+            }
+
+            for (int e = 0; e < edgeCount; e++) {
+                int u = position[edgeU[e]];
+                int v = position[edgeV[e]];
+                if (u < 0 || v < 0) {
+                    String name = internNames.get(u < 0 ? edgeU[e] : edgeV[e]);
+                    throw new IOException("Graph " + graphId + ": edge references unknown vertex " + name);
+                }
+                edgeU[e] = u;
+                edgeV[e] = v;
+            }
+
+            return Graph.ofIndexed(nodes, edgeU, edgeV, weights, edgeCount);
+        }
+    }
+
+    // Liberal: accept ["A","B"] or [{"id":"A"}, ...]
+    private void readNodes(GraphIds ids) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                String id = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if ("id".equals(reader.nextName())) {
+                        id = reader.nextString();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                if (id != null) {
+                    ids.addNode(id);
+                }
+            } else {
+                ids.addNode(reader.nextString());
+            }
+        }
+        reader.endArray();
+    }
+
+    // Liberal: accept {u,v,w} or {from,to,weight}
+    private void readEdges(GraphIds ids) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String from = null;
+            String to = null;
+            Integer weight = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "u":
+                    case "from":
+                        from = reader.nextString();
+                        break;
+                    case "v":
+                    case "to":
+                        to = reader.nextString();
+                        break;
+                    case "w":
+                    case "weight":
+                        weight = reader.nextInt();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            if (from == null || to == null || weight == null) {
+                throw new IOException("Incomplete edge at " + reader.getPath());
+            }
+            ids.addEdge(from, to, weight);
+        }
+        reader.endArray();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.io;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntFunction;
+
+/**
+ * Incremental writer for the input JSON schema ({"graphs": [...]}).
+ * Edges are appended one at a time, so graphs with tens of millions of
+ * edges never need to exist in memory. Output is compact.
+ */
+public class JsonGraphWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final JsonWriter writer;
+    private boolean inGraph;
+
+    public JsonGraphWriter(String path) throws IOException {
+        this(new OutputStreamWriter(
+            new BufferedOutputStream(new FileOutputStream(path), BUFFER_SIZE), StandardCharsets.UTF_8));
+    }
+
+    public JsonGraphWriter(Writer target) throws IOException {
+        this.writer = new JsonWriter(target);
+        writer.beginObject();
+        writer.name("graphs");
+        writer.beginArray();
+    }
+
+    /**
+     * Start a graph and write its node list; edges follow via {@link #edge}.
+     */
+    public void beginGraph(String id, int vertexCount, IntFunction<String> names) throws IOException {
+        if (inGraph) {
+            throw new IllegalStateException("Previous graph not ended");
+        }
+        inGraph = true;
+
+        writer.beginObject();
+        writer.name("id").value(id);
+        writer.name("nodes").beginArray();
+        for (int v = 0; v < vertexCount; v++) {
+            writer.value(names.apply(v));
+        }
+        writer.endArray();
+        writer.name("edges").beginArray();
+    }
+
+    public void edge(String from, String to, int weight) throws IOException {
+        if (!inGraph) {
+            throw new IllegalStateException("No graph started");
+        }
+        writer.beginObject();
+        writer.name("from").value(from);
+        writer.name("to").value(to);
+        writer.name("weight").value(weight);
+        writer.endObject();
+    }
+
+    public void endGraph() throws IOException {
+        if (!inGraph) {
+            throw new IllegalStateException("No graph started");
+        }
+        inGraph = false;
+        writer.endArray();
+        writer.endObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.endArray();
+            writer.endObject();
+        } finally {
+            writer.close();
+        }
+    }
+}
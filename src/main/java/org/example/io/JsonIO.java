@@ -1,12 +1,11 @@
 package org.example.io;
 
-import com.google.gson.*;
 import org.example.model.Edge;
 import org.example.model.Graph;
+import org.example.util.Measurement;
 
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,112 +21,34 @@ public class JsonIO {
      * Supports both {u,v,w} and {from,to,weight} for edges.
      */
     public static List<InputGraph> readInputs(String path) throws IOException {
-        try (FileReader reader = new FileReader(path)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
-            JsonArray graphsArray = root.getAsJsonArray("graphs");
-
+        try (JsonGraphReader reader = streamInputs(path)) {
             List<InputGraph> inputs = new ArrayList<>();
-            for (JsonElement graphElem : graphsArray) {
-                JsonObject graphObj = graphElem.getAsJsonObject();
-
-                // Read graph ID
-                String graphId = graphObj.get("id").getAsString();
-
-                // Read nodes (liberal: accept ["A","B"] or [{"id":"A"}, ...])
-                List<String> nodes = new ArrayList<>();
-                JsonArray nodesArray = graphObj.getAsJsonArray("nodes");
-                for (JsonElement nodeElem : nodesArray) {
-                    if (nodeElem.isJsonPrimitive()) {
-                        nodes.add(nodeElem.getAsString());
-                    } else if (nodeElem.isJsonObject()) {
-                        nodes.add(nodeElem.getAsJsonObject().get("id").getAsString());
-                    }
-                }
-
-                // Read edges (liberal: accept {u,v,w} or {from,to,weight})
-                List<Edge> edges = new ArrayList<>();
-                JsonArray edgesArray = graphObj.getAsJsonArray("edges");
-                for (JsonElement edgeElem : edgesArray) {
-                    JsonObject edgeObj = edgeElem.getAsJsonObject();
-
-                    String from, to;
-                    int weight;
-
-                    if (edgeObj.has("u")) {
-                        from = edgeObj.get("u").getAsString();
-                        to = edgeObj.get("v").getAsString();
-                        weight = edgeObj.get("w").getAsInt();
-                    } else {
-                        from = edgeObj.get("from").getAsString();
-                        to = edgeObj.get("to").getAsString();
-                        weight = edgeObj.get("weight").getAsInt();
-                    }
-
-                    edges.add(new Edge(from, to, weight));
-                }
-
-                Graph graph = new Graph(nodes, edges);
-                inputs.add(new InputGraph(graphId, graph));
+            while (reader.hasNext()) {
+                inputs.add(reader.next());
             }
-
             return inputs;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
     /**
-     * Write MST results to JSON file with exact output schema.
+     * Open input graphs for streaming, one graph parsed per next().
      */
-    public static void writeResults(String path, List<OutputRecord> records) throws IOException {
-        JsonObject root = new JsonObject();
-        JsonArray resultsArray = new JsonArray();
-
-        for (OutputRecord record : records) {
-            JsonObject graphResult = new JsonObject();
-            graphResult.addProperty("graph_id", record.graphId);
-
-            // Input stats
-            JsonObject inputStats = new JsonObject();
-            inputStats.addProperty("vertices", record.vertexCount);
-            inputStats.addProperty("edges", record.edgeCount);
-            graphResult.add("input_stats", inputStats);
-
-            // Prim result
-            JsonObject primResult = new JsonObject();
-            primResult.add("mst_edges", createEdgesArray(record.primEdges));
-            primResult.addProperty("total_cost", record.primTotalCost);
-            primResult.addProperty("operations_count", record.primOpsCount);
-            primResult.addProperty("execution_time_ms", record.primTimeMs);
-            graphResult.add("prim", primResult);
-
-            // Kruskal result
-            JsonObject kruskalResult = new JsonObject();
-            kruskalResult.add("mst_edges", createEdgesArray(record.kruskalEdges));
-            kruskalResult.addProperty("total_cost", record.kruskalTotalCost);
-            kruskalResult.addProperty("operations_count", record.kruskalOpsCount);
-            kruskalResult.addProperty("execution_time_ms", record.kruskalTimeMs);
-            graphResult.add("kruskal", kruskalResult);
-
-            resultsArray.add(graphResult);
-        }
-
-        root.add("results", resultsArray);
-
-        try (FileWriter writer = new FileWriter(path)) {
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            gson.toJson(root, writer);
-        }
+    public static JsonGraphReader streamInputs(String path) throws IOException {
+        return new JsonGraphReader(path);
     }
 
-    private static JsonArray createEdgesArray(List<Edge> edges) {
-        JsonArray array = new JsonArray();
-        for (Edge edge : edges) {
-            JsonObject edgeObj = new JsonObject();
-            edgeObj.addProperty("from", edge.u);
-            edgeObj.addProperty("to", edge.v);
-            edgeObj.addProperty("weight", edge.w);
-            array.add(edgeObj);
+    /**
+     * Write MST results to JSON file with exact output schema.
+     */
+    public static void writeResults(String path, List<OutputRecord> records) throws IOException {
+        try (JsonResultWriter writer = new JsonResultWriter(path, true)) {
+            for (OutputRecord record : records) {
+                writer.write(record);
+            }
+            writer.finish();
         }
-        return array;
     }
 
     /**
@@ -155,11 +76,13 @@ public class JsonIO {
         public int primTotalCost;
         public long primOpsCount;
         public double primTimeMs;
+        public Measurement primTiming;
 
         public List<Edge> kruskalEdges;
         public int kruskalTotalCost;
         public long kruskalOpsCount;
         public double kruskalTimeMs;
+        public Measurement kruskalTiming;
 
         public OutputRecord(String graphId, int vertexCount, int edgeCount) {
             this.graphId = graphId;
@@ -0,0 +1,195 @@
+package org.example.io;
+
+import com.google.gson.stream.JsonWriter;
+import org.example.model.Edge;
+import org.example.util.Measurement;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Incremental writer for the output JSON schema.
+ * Each record is appended as soon as it is written instead of building the
+ * whole document tree first. Pretty output is byte-identical to the former
+ * Gson tree output; compact output drops all whitespace.
+ */
+public class JsonResultWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer target;
+    private final JsonWriter writer;
+    private boolean inRecord;
+    private boolean finished;
+
+    public JsonResultWriter(String path, boolean pretty) throws IOException {
+        this(new OutputStreamWriter(
+            new BufferedOutputStream(new FileOutputStream(path), BUFFER_SIZE), StandardCharsets.UTF_8), pretty);
+    }
+
+    public JsonResultWriter(Writer target, boolean pretty) throws IOException {
+        this.target = target;
+        this.writer = new JsonWriter(target);
+        writer.setHtmlSafe(true); // Same escaping as the default Gson instance
+        if (pretty) {
+            writer.setIndent("  ");
+        }
+        writer.beginObject();
+        writer.name("results");
+        writer.beginArray();
+    }
+
+    /**
+     * Append one complete record with prim and kruskal results.
+     */
+    public void write(JsonIO.OutputRecord record) throws IOException {
+        beginRecord(record.graphId, record.vertexCount, record.edgeCount);
+        writeAlgorithm("prim", record.primEdges, record.primTotalCost, record.primOpsCount,
+            record.primTimeMs, record.primTiming);
+        writeAlgorithm("kruskal", record.kruskalEdges, record.kruskalTotalCost,
+            record.kruskalOpsCount, record.kruskalTimeMs, record.kruskalTiming);
+        endRecord();
+    }
+
+    public void beginRecord(String graphId, int vertexCount, int edgeCount) throws IOException {
+        if (inRecord) {
+            throw new IllegalStateException("Previous record not ended");
+        }
+        inRecord = true;
+
+        writer.beginObject();
+        writer.name("graph_id").value(graphId);
+
+        writer.name("input_stats").beginObject();
+        writer.name("vertices").value(vertexCount);
+        writer.name("edges").value(edgeCount);
+        writer.endObject();
+    }
+
+    /**
+     * Name of the engine that produced the record's result (single-engine runs).
+     */
+    public void writeEngine(String engine) throws IOException {
+        if (!inRecord) {
+            throw new IllegalStateException("No record started");
+        }
+        writer.name("engine").value(engine);
+    }
+
+    /**
+     * Mark the record as served from the result cache: its timings come from
+     * the run that filled the cache, not from this one.
+     */
+    public void writeCached() throws IOException {
+        if (!inRecord) {
+            throw new IllegalStateException("No record started");
+        }
+        writer.name("cached").value(true);
+    }
+
+    public void writeAlgorithm(String name, List<Edge> mstEdges, int totalCost,
+                               long operationsCount, double timeMs) throws IOException {
+        writeAlgorithm(name, mstEdges, totalCost, operationsCount, timeMs, null);
+    }
+
+    /**
+     * Write one algorithm object; when timing is present its distribution,
+     * allocation and GC fields follow execution_time_ms.
+     */
+    public void writeAlgorithm(String name, List<Edge> mstEdges, int totalCost,
+                               long operationsCount, double timeMs, Measurement timing) throws IOException {
+        beginAlgorithm(name);
+        for (Edge edge : mstEdges) {
+            writeEdge(edge.u, edge.v, edge.w);
+        }
+        endAlgorithm(totalCost, operationsCount, timeMs, timing);
+    }
+
+    /**
+     * Open an algorithm object and its mst_edges array, for callers that
+     * stream edges with writeEdge() instead of holding them in a list.
+     */
+    public void beginAlgorithm(String name) throws IOException {
+        if (!inRecord) {
+            throw new IllegalStateException("No record started");
+        }
+        writer.name(name).beginObject();
+        writer.name("mst_edges").beginArray();
+    }
+
+    public void writeEdge(String from, String to, int weight) throws IOException {
+        writer.beginObject();
+        writer.name("from").value(from);
+        writer.name("to").value(to);
+        writer.name("weight").value(weight);
+        writer.endObject();
+    }
+
+    /**
+     * Close the mst_edges array and write the remaining algorithm fields.
+     */
+    public void endAlgorithm(long totalCost, long operationsCount, double timeMs,
+                             Measurement timing) throws IOException {
+        writer.endArray();
+        writer.name("total_cost").value(totalCost);
+        writer.name("operations_count").value(operationsCount);
+        writer.name("execution_time_ms").value(timeMs);
+        if (timing != null) {
+            writer.name("time_min_ms").value(roundMicros(timing.getMinMs()));
+            writer.name("time_p50_ms").value(roundMicros(timing.getMedianMs()));
+            writer.name("time_p90_ms").value(roundMicros(timing.getP90Ms()));
+            writer.name("time_p99_ms").value(roundMicros(timing.getP99Ms()));
+            writer.name("time_max_ms").value(roundMicros(timing.getMaxMs()));
+            writer.name("warmup_runs").value(timing.getWarmupRuns());
+            writer.name("measured_runs").value(timing.getRuns());
+            writer.name("allocated_bytes_per_run").value(timing.getAllocatedBytesPerRun());
+            writer.name("gc_count").value(timing.getGcCount());
+            writer.name("gc_time_ms").value(timing.getGcTimeMs());
+        }
+        writer.endObject();
+    }
+
+    private static double roundMicros(double ms) {
+        return Math.round(ms * 1000.0) / 1000.0;
+    }
+
+    public void endRecord() throws IOException {
+        if (!inRecord) {
+            throw new IllegalStateException("No record started");
+        }
+        inRecord = false;
+        writer.endObject();
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Close the results array and the document. Call once after the last
+     * record; without it the output is left unterminated so a failed run
+     * cannot be mistaken for a complete one.
+     */
+    public void finish() throws IOException {
+        if (inRecord) {
+            throw new IllegalStateException("Record not ended");
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.flush();
+        finished = true;
+    }
+
+    /**
+     * Close the underlying stream. The document is complete only if
+     * finish() succeeded first.
+     */
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            writer.close();
+        } else {
+            target.close(); // JsonWriter.close() rejects an incomplete document
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.io;
+
+import org.example.model.EdgeList;
+import org.example.model.Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One graph of a binary graph file, viewed in place over its mapped section.
+ * Accessors read straight from the mapping; nothing is copied to the heap
+ * until {@link #toGraph()} builds the model objects.
+ */
+public class MappedGraph implements EdgeList {
+    private final String id;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final IntBuffer nameOffsets;
+    private final ByteBuffer names;
+    private final IntBuffer edgeU;
+    private final IntBuffer edgeV;
+    private final IntBuffer weights;
+
+    /**
+     * Parse the section layout; section starts right after the sectionBytes field.
+     */
+    MappedGraph(ByteBuffer section) throws IOException {
+        try {
+            vertexCount = section.getInt();
+            edgeCount = section.getInt();
+            int idBytes = section.getInt();
+            int nameBytes = section.getInt();
+            if (vertexCount < 0 || edgeCount < 0 || idBytes < 0 || nameBytes < 0) {
+                throw new IOException("Corrupt graph header");
+            }
+
+            byte[] idData = new byte[idBytes];
+            section.get(idData);
+            id = new String(idData, StandardCharsets.UTF_8);
+            skip(section, BinaryGraphWriter.padded(idBytes) - idBytes);
+
+            nameOffsets = slice(section, 4 * (vertexCount + 1)).asIntBuffer();
+            names = slice(section, nameBytes);
+            skip(section, BinaryGraphWriter.padded(nameBytes) - nameBytes);
+
+            edgeU = slice(section, 4 * edgeCount).asIntBuffer();
+            edgeV = slice(section, 4 * edgeCount).asIntBuffer();
+            weights = slice(section, 4 * edgeCount).asIntBuffer();
+        } catch (RuntimeException e) {
+            // Buffer under/overflow or bad slice bounds
+            throw new IOException("Truncated or corrupt graph section", e);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer section, int length) {
+        ByteBuffer slice = section.slice(section.position(), length);
+        section.position(section.position() + length);
+        return slice;
+    }
+
+    private static void skip(ByteBuffer section, long bytes) {
+        section.position(section.position() + (int) bytes);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public String vertexName(int v) {
+        int start = nameOffsets.get(v);
+        int end = nameOffsets.get(v + 1);
+        byte[] data = new byte[end - start];
+        names.get(start, data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int edgeU(int e) {
+        return edgeU.get(e);
+    }
+
+    @Override
+    public int edgeV(int e) {
+        return edgeV.get(e);
+    }
+
+    @Override
+    public int edgeWeight(int e) {
+        return weights.get(e);
+    }
+
+    /**
+     * Materialize the model graph (decodes names, bulk-copies edge arrays).
+     */
+    public Graph toGraph() throws IOException {
+        List<String> nodes = new ArrayList<>(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            nodes.add(vertexName(v));
+        }
+
+        int[] u = new int[edgeCount];
+        int[] v = new int[edgeCount];
+        int[] w = new int[edgeCount];
+        edgeU.get(0, u);
+        edgeV.get(0, v);
+        weights.get(0, w);
+
+        try {
+            return Graph.ofIndexed(nodes, u, v, w, edgeCount);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Graph " + id + ": " + e.getMessage(), e);
+        }
+    }
+}
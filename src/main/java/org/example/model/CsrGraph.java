@@ -0,0 +1,154 @@
+package org.example.model;
+
+import java.util.List;
+
+/**
+ * Compressed sparse row view of a {@link Graph}.
+ * Vertices are dense ints [0..n-1] in node-list order, edges are ints [0..m-1]
+ * in edge-list order. All hot data lives in primitive arrays; the source
+ * {@link Edge} objects are only kept to materialize results.
+ */
+public class CsrGraph implements EdgeList {
+    private final List<String> nodes;
+    private final List<Edge> edges;
+
+    // Edge list: endpoints and weight per edge id
+    private final int[] edgeU;
+    private final int[] edgeV;
+    private final int[] edgeW;
+
+    // Adjacency: slots offsets[v]..offsets[v+1]-1 belong to vertex v
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] edgeIds;
+
+    public CsrGraph(Graph graph) {
+        // Read-only views shared with the graph, not copies
+        this.nodes = graph.getNodes();
+        this.edges = graph.getEdges();
+
+        int n = nodes.size();
+        int m = edges.size();
+
+        // Vertex ids were interned when the graph was read; no name hashing here
+        int[] endpoints = graph.endpointIds();
+
+        edgeU = new int[m];
+        edgeV = new int[m];
+        edgeW = new int[m];
+        offsets = new int[n + 1];
+
+        // Copy endpoints and count degrees
+        for (int e = 0; e < m; e++) {
+            edgeU[e] = endpoints[2 * e];
+            edgeV[e] = endpoints[2 * e + 1];
+            edgeW[e] = edges.get(e).w;
+            offsets[edgeU[e] + 1]++;
+            offsets[edgeV[e] + 1]++;
+        }
+
+        // Prefix sums turn degrees into slot offsets
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        targets = new int[2 * m];
+        weights = new int[2 * m];
+        edgeIds = new int[2 * m];
+        int[] cursor = new int[n];
+        for (int v = 0; v < n; v++) {
+            cursor[v] = offsets[v];
+        }
+
+        for (int e = 0; e < m; e++) {
+            int u = edgeU[e];
+            int v = edgeV[e];
+
+            int slot = cursor[u]++;
+            targets[slot] = v;
+            weights[slot] = edgeW[e];
+            edgeIds[slot] = e;
+
+            slot = cursor[v]++;
+            targets[slot] = u;
+            weights[slot] = edgeW[e];
+            edgeIds[slot] = e;
+        }
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodes.size();
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeW.length;
+    }
+
+    public String getNodeName(int v) {
+        return nodes.get(v);
+    }
+
+    // ==================== EDGE LIST ====================
+
+    @Override
+    public int edgeU(int e) {
+        return edgeU[e];
+    }
+
+    @Override
+    public int edgeV(int e) {
+        return edgeV[e];
+    }
+
+    @Override
+    public int edgeWeight(int e) {
+        return edgeW[e];
+    }
+
+    /**
+     * Source edge object for edge id e (for building results).
+     */
+    public Edge getEdge(int e) {
+        return edges.get(e);
+    }
+
+    // ==================== ADJACENCY ====================
+
+    /**
+     * First adjacency slot of vertex v.
+     */
+    public int adjStart(int v) {
+        return offsets[v];
+    }
+
+    /**
+     * One past the last adjacency slot of vertex v.
+     */
+    public int adjEnd(int v) {
+        return offsets[v + 1];
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    public int adjTarget(int slot) {
+        return targets[slot];
+    }
+
+    public int adjWeight(int slot) {
+        return weights[slot];
+    }
+
+    public int adjEdge(int slot) {
+        return edgeIds[slot];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CsrGraph{nodes=%d, edges=%d}", getNodeCount(), getEdgeCount());
+    }
+}
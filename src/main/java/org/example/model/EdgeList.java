@@ -0,0 +1,19 @@
+package org.example.model;
+
+/**
+ * Indexed edge list over dense int vertex ids [0..n-1].
+ * Lets edge-scanning algorithms run on any backing store (in-heap arrays
+ * or a memory-mapped file) without materializing {@link Edge} objects.
+ */
+public interface EdgeList {
+
+    int getNodeCount();
+
+    int getEdgeCount();
+
+    int edgeU(int e);
+
+    int edgeV(int e);
+
+    int edgeWeight(int e);
+}
@@ -1,26 +1,71 @@
 package org.example.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Undirected graph with named vertices and weighted edges.
+ * Besides the Edge list, the graph keeps each edge's endpoints as dense int
+ * vertex ids (index into the node list), so algorithms never need to hash
+ * vertex names. Readers that already know the ids pass them in via
+ * {@link #ofIndexed}; otherwise names are resolved once, on first use.
  */
 public class Graph {
     private final List<String> nodes;
     private final List<Edge> edges;
 
+    // Interleaved (u, v) vertex ids per edge; null until resolved
+    private volatile int[] endpoints;
+
     public Graph(List<String> nodes, List<Edge> edges) {
-        this.nodes = new ArrayList<>(nodes);
-        this.edges = new ArrayList<>(edges);
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+        this.edges = Collections.unmodifiableList(new ArrayList<>(edges));
+    }
+
+    private Graph(List<String> nodes, List<Edge> edges, int[] endpoints) {
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.edges = Collections.unmodifiableList(edges);
+        this.endpoints = endpoints;
     }
 
+    /**
+     * Build a graph from int endpoints into the node list. Edge objects
+     * reuse the node name Strings, and no name lookup is ever needed.
+     */
+    public static Graph ofIndexed(List<String> nodes, int[] edgeU, int[] edgeV, int[] weights, int edgeCount) {
+        List<String> names = new ArrayList<>(nodes);
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        int[] endpoints = new int[2 * edgeCount];
+
+        for (int e = 0; e < edgeCount; e++) {
+            int u = edgeU[e];
+            int v = edgeV[e];
+            if (u < 0 || u >= names.size() || v < 0 || v >= names.size()) {
+                throw new IllegalArgumentException("Edge " + e + " has vertex id out of range");
+            }
+            edges.add(new Edge(names.get(u), names.get(v), weights[e]));
+            endpoints[2 * e] = u;
+            endpoints[2 * e + 1] = v;
+        }
+
+        return new Graph(names, edges, endpoints);
+    }
+
+    /**
+     * Read-only view of the nodes (no copy; the graph's own list is immutable).
+     */
     public List<String> getNodes() {
-        return new ArrayList<>(nodes);
+        return nodes;
     }
 
+    /**
+     * Read-only view of the edges (no copy; the graph's own list is immutable).
+     */
     public List<Edge> getEdges() {
-        return new ArrayList<>(edges);
+        return edges;
     }
 
     public List<Edge> getIncidentEdges(String vertex) {
@@ -41,9 +86,44 @@ public class Graph {
         return edges.size();
     }
 
+    /**
+     * Vertex ids of every edge as interleaved (u, v) pairs.
+     * Shared internal array: callers must not modify it.
+     */
+    int[] endpointIds() {
+        int[] resolved = endpoints;
+        if (resolved == null) {
+            resolved = resolveEndpoints();
+            endpoints = resolved;
+        }
+        return resolved;
+    }
+
+    private int[] resolveEndpoints() {
+        Map<String, Integer> nodeIndex = new HashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeIndex.put(nodes.get(i), i);
+        }
+
+        int[] resolved = new int[2 * edges.size()];
+        for (int e = 0; e < edges.size(); e++) {
+            Edge edge = edges.get(e);
+            resolved[2 * e] = resolve(nodeIndex, edge.u);
+            resolved[2 * e + 1] = resolve(nodeIndex, edge.v);
+        }
+        return resolved;
+    }
+
+    private static int resolve(Map<String, Integer> nodeIndex, String name) {
+        Integer index = nodeIndex.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Edge references unknown vertex: " + name);
+        }
+        return index;
+    }
+
     @Override
     public String toString() {
         return String.format("Graph{nodes=%d, edges=%d}", nodes.size(), edges.size());
     }
 }
-
@@ -0,0 +1,35 @@
+package org.example.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LongAdder counters for parallel engines: concurrent increments go to
+ * striped cells instead of contending on one atomic.
+ */
+final class AdderMetrics extends Metrics {
+    private final LongAdder[] operations = new LongAdder[COUNTERS];
+
+    AdderMetrics() {
+        super(null);
+        for (int i = 0; i < COUNTERS; i++) {
+            operations[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void inc(Counter counter, long n) {
+        operations[counter.ordinal()].add(n);
+    }
+
+    @Override
+    public long get(Counter counter) {
+        return operations[counter.ordinal()].sum();
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder adder : operations) {
+            adder.reset();
+        }
+    }
+}
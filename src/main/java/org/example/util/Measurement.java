@@ -0,0 +1,83 @@
+package org.example.util;
+
+/**
+ * Timing distribution and allocation stats from one {@link Timer#measure} call.
+ * Times are in milliseconds; allocation is per measured run on the calling
+ * thread (-1 when the JVM cannot report it).
+ */
+public class Measurement {
+    private final int warmupRuns;
+    private final int runs;
+    private final double minMs;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double maxMs;
+    private final long allocatedBytesPerRun;
+    private final long gcCount;
+    private final long gcTimeMs;
+
+    public Measurement(int warmupRuns, int runs, double minMs, double p50Ms, double p90Ms,
+                       double p99Ms, double maxMs, long allocatedBytesPerRun,
+                       long gcCount, long gcTimeMs) {
+        this.warmupRuns = warmupRuns;
+        this.runs = runs;
+        this.minMs = minMs;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p99Ms = p99Ms;
+        this.maxMs = maxMs;
+        this.allocatedBytesPerRun = allocatedBytesPerRun;
+        this.gcCount = gcCount;
+        this.gcTimeMs = gcTimeMs;
+    }
+
+    public int getWarmupRuns() {
+        return warmupRuns;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public double getMinMs() {
+        return minMs;
+    }
+
+    /**
+     * Median run time; same run index as the former measureMedian.
+     */
+    public double getMedianMs() {
+        return p50Ms;
+    }
+
+    public double getP90Ms() {
+        return p90Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    public long getAllocatedBytesPerRun() {
+        return allocatedBytesPerRun;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Measurement{runs=%d, p50=%.3fms, p90=%.3fms, p99=%.3fms, alloc=%dB, gc=%d}",
+            runs, p50Ms, p90Ms, p99Ms, allocatedBytesPerRun, gcCount);
+    }
+}
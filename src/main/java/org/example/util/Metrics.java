@@ -1,31 +1,103 @@
 package org.example.util;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Thread-safe operations counter for algorithm metrics.
+ * Counts are kept per {@link Counter}; the unnamed inc() calls count as
+ * {@link Counter#OTHER} and get() returns the total over all counters.
+ * For hot loops prefer {@link #noop()} (counting compiled away),
+ * {@link #plain()} (single thread), {@link #threadLocal()} (one plain
+ * array per thread) or {@link #concurrent()} (parallel engines).
  */
 public class Metrics {
-    private final AtomicLong operations;
+
+    public enum Counter {
+        COMPARISONS,
+        FINDS,
+        UNIONS,
+        HEAP_OPS,
+        OTHER
+    }
+
+    static final int COUNTERS = Counter.values().length;
+
+    private final AtomicLongArray operations;
 
     public Metrics() {
-        this.operations = new AtomicLong(0);
+        this(new AtomicLongArray(COUNTERS));
+    }
+
+    /**
+     * The in-package implementations pass null: they keep their own storage
+     * and override inc(Counter, long), get(Counter) and reset().
+     */
+    Metrics(AtomicLongArray operations) {
+        this.operations = operations;
+    }
+
+    public static Metrics noop() {
+        return NoOpMetrics.INSTANCE;
+    }
+
+    public static Metrics plain() {
+        return new PlainMetrics();
+    }
+
+    public static Metrics threadLocal() {
+        return new ThreadLocalMetrics();
     }
 
-    public void inc(long n) {
-        operations.addAndGet(n);
+    public static Metrics concurrent() {
+        return new AdderMetrics();
     }
 
-    public void inc() {
-        operations.incrementAndGet();
+    public void inc(Counter counter, long n) {
+        operations.addAndGet(counter.ordinal(), n);
     }
 
-    public long get() {
-        return operations.get();
+    public long get(Counter counter) {
+        return operations.get(counter.ordinal());
     }
 
     public void reset() {
-        operations.set(0);
+        for (int i = 0; i < COUNTERS; i++) {
+            operations.set(i, 0);
+        }
+    }
+
+    public final void inc(Counter counter) {
+        inc(counter, 1);
     }
-}
 
+    public final void inc(long n) {
+        inc(Counter.OTHER, n);
+    }
+
+    public final void inc() {
+        inc(Counter.OTHER, 1);
+    }
+
+    /**
+     * Total over all counters.
+     */
+    public final long get() {
+        long total = 0;
+        for (Counter counter : Counter.values()) {
+            total += get(counter);
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Metrics{");
+        for (Counter counter : Counter.values()) {
+            if (counter.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(counter.name().toLowerCase()).append('=').append(get(counter));
+        }
+        return sb.append('}').toString();
+    }
+}
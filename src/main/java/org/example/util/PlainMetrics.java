@@ -0,0 +1,30 @@
+package org.example.util;
+
+/**
+ * Plain long counters without atomics. Not thread-safe: use one instance
+ * per thread (e.g. for a single-threaded algorithm run).
+ */
+final class PlainMetrics extends Metrics {
+    private final long[] operations = new long[COUNTERS];
+
+    PlainMetrics() {
+        super(null);
+    }
+
+    @Override
+    public void inc(Counter counter, long n) {
+        operations[counter.ordinal()] += n;
+    }
+
+    @Override
+    public long get(Counter counter) {
+        return operations[counter.ordinal()];
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < COUNTERS; i++) {
+            operations[i] = 0;
+        }
+    }
+}
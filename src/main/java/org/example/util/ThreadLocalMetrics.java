@@ -0,0 +1,45 @@
+package org.example.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * One plain long array per thread, so increments never contend or fence.
+ * get() sums every thread's array; read it after the counting threads have
+ * been joined, and reset() only while none of them is counting.
+ */
+final class ThreadLocalMetrics extends Metrics {
+    private final Queue<long[]> all = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<long[]> local = ThreadLocal.withInitial(() -> {
+        long[] operations = new long[COUNTERS];
+        all.add(operations);
+        return operations;
+    });
+
+    ThreadLocalMetrics() {
+        super(null);
+    }
+
+    @Override
+    public void inc(Counter counter, long n) {
+        local.get()[counter.ordinal()] += n;
+    }
+
+    @Override
+    public long get(Counter counter) {
+        long total = 0;
+        for (long[] operations : all) {
+            total += operations[counter.ordinal()];
+        }
+        return total;
+    }
+
+    @Override
+    public void reset() {
+        for (long[] operations : all) {
+            for (int i = 0; i < COUNTERS; i++) {
+                operations[i] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.util;
+
+/**
+ * A task's result together with the timing of the runs that produced it.
+ */
+public class Timed<T> {
+    private final T result;
+    private final Measurement measurement;
+
+    public Timed(T result, Measurement measurement) {
+        this.result = result;
+        this.measurement = measurement;
+    }
+
+    /**
+     * Result of the first measured run (all measured runs agreed with it).
+     */
+    public T getResult() {
+        return result;
+    }
+
+    public Measurement getMeasurement() {
+        return measurement;
+    }
+}
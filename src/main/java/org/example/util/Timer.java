@@ -1,28 +1,125 @@
 package org.example.util;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 
 /**
- * Measures execution time and computes median (excluding I/O).
+ * Measures execution time (excluding I/O) after optional JIT warmup runs.
+ * Reports the run-time distribution plus allocation and GC activity.
  */
 public class Timer {
 
     public static double measureMedian(Runnable task, int runs) {
-        List<Long> times = new ArrayList<>();
+        return measure(task, 0, runs).getMedianMs();
+    }
+
+    public static Measurement measure(Runnable task, int warmupRuns, int runs) {
+        Supplier<Object> supplier = () -> {
+            task.run();
+            return null;
+        };
+        return measure(supplier, warmupRuns, runs, (first, other) -> true).getMeasurement();
+    }
 
+    /**
+     * Measure a task that produces a result and keep the result of the
+     * measured runs, so callers need no extra run just to obtain it. Every
+     * measured run must agree with the first according to sameResult
+     * (checked outside the timed section); otherwise IllegalStateException.
+     */
+    public static <T> Timed<T> measure(Supplier<T> task, int warmupRuns, int runs,
+                                       BiPredicate<? super T, ? super T> sameResult) {
+        if (runs <= 0) {
+            throw new IllegalArgumentException("runs must be positive: " + runs);
+        }
+
+        for (int i = 0; i < warmupRuns; i++) {
+            task.get();
+        }
+
+        com.sun.management.ThreadMXBean allocations = allocationBean();
+        long threadId = Thread.currentThread().getId();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+
+        T first = null;
+        long[] times = new long[runs];
+        long allocated = 0;
         for (int i = 0; i < runs; i++) {
+            long allocBefore = allocations != null ? allocations.getThreadAllocatedBytes(threadId) : 0;
             long start = System.nanoTime();
-            task.run();
+            T result = task.get();
             long end = System.nanoTime();
-            times.add(end - start);
+            if (allocations != null) {
+                allocated += allocations.getThreadAllocatedBytes(threadId) - allocBefore;
+            }
+            times[i] = end - start;
+
+            if (i == 0) {
+                first = result;
+            } else if (!sameResult.test(first, result)) {
+                throw new IllegalStateException("Measured run " + i + " disagrees with the first run");
+            }
         }
 
-        Collections.sort(times);
-        long medianNanos = times.get(runs / 2);
-        return medianNanos / 1_000_000.0;
+        long gcCount = gcCount() - gcCountBefore;
+        long gcTime = gcTime() - gcTimeBefore;
+
+        Arrays.sort(times);
+        Measurement measurement = new Measurement(
+            warmupRuns, runs,
+            toMillis(times[0]),
+            toMillis(percentile(times, 0.50)),
+            toMillis(percentile(times, 0.90)),
+            toMillis(percentile(times, 0.99)),
+            toMillis(times[runs - 1]),
+            allocations != null ? allocated / runs : -1,
+            gcCount, gcTime
+        );
+        return new Timed<>(first, measurement);
     }
-}
 
+    /**
+     * Value at index floor(p * n) of the sorted times; p=0.5 matches the
+     * runs/2 index used for the median.
+     */
+    static long percentile(long[] sorted, double p) {
+        int index = (int) Math.floor(p * sorted.length);
+        return sorted[Math.min(sorted.length - 1, index)];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean extended = (com.sun.management.ThreadMXBean) bean;
+            if (extended.isThreadAllocatedMemorySupported() && extended.isThreadAllocatedMemoryEnabled()) {
+                return extended;
+            }
+        }
+        return null;
+    }
 
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
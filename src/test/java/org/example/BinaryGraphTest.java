@@ -0,0 +1,127 @@
+package org.example;
+
+import org.example.io.BinaryGraphReader;
+import org.example.io.BinaryGraphWriter;
+import org.example.io.GraphSource;
+import org.example.io.JsonGraphReader;
+import org.example.io.JsonIO;
+import org.example.io.MappedGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped binary graph format.
+ */
+@DisplayName("Binary Graph Format Tests")
+public class BinaryGraphTest {
+
+    @TempDir
+    Path tempDir;
+
+    private void assertSameGraph(Graph expected, Graph actual) {
+        assertEquals(expected.getNodes(), actual.getNodes());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        for (int e = 0; e < expected.getEdgeCount(); e++) {
+            Edge a = expected.getEdges().get(e);
+            Edge b = actual.getEdges().get(e);
+            assertEquals(a.u, b.u);
+            assertEquals(a.v, b.v);
+            assertEquals(a.w, b.w);
+        }
+    }
+
+    @Test
+    @DisplayName("Converted example file round-trips every graph")
+    public void testConvertRoundTrip() throws IOException {
+        Path binary = tempDir.resolve("input.mstg");
+        List<JsonIO.InputGraph> expected = JsonIO.readInputs("input_example.json");
+
+        assertEquals(expected.size(), BinaryGraphWriter.convert("input_example.json", binary.toString()));
+
+        try (BinaryGraphReader reader = new BinaryGraphReader(binary.toString())) {
+            for (JsonIO.InputGraph input : expected) {
+                assertTrue(reader.hasNext());
+                JsonIO.InputGraph actual = reader.next();
+                assertEquals(input.id, actual.id);
+                assertSameGraph(input.graph, actual.graph);
+            }
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Mapped view reads names and edges in place")
+    public void testMappedView() throws IOException {
+        Path binary = tempDir.resolve("mapped.mstg");
+        Graph graph = new Graph(
+            Arrays.asList("Zürich", "B", ""),
+            Arrays.asList(new Edge("Zürich", "B", -5), new Edge("", "B", 7))
+        );
+        try (BinaryGraphWriter writer = new BinaryGraphWriter(binary.toString())) {
+            writer.write("g-1", graph);
+            writer.write("empty", new Graph(Collections.emptyList(), Collections.emptyList()));
+        }
+
+        try (BinaryGraphReader reader = new BinaryGraphReader(binary.toString())) {
+            MappedGraph mapped = reader.nextMapped();
+            assertEquals("g-1", mapped.getId());
+            assertEquals(3, mapped.getNodeCount());
+            assertEquals(2, mapped.getEdgeCount());
+            assertEquals("Zürich", mapped.vertexName(0));
+            assertEquals("", mapped.vertexName(2));
+            assertEquals(2, mapped.edgeU(1));
+            assertEquals(1, mapped.edgeV(1));
+            assertEquals(-5, mapped.edgeWeight(0));
+            assertSameGraph(graph, mapped.toGraph());
+
+            MappedGraph empty = reader.nextMapped();
+            assertEquals("empty", empty.getId());
+            assertEquals(0, empty.toGraph().getNodeCount());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("GraphSource picks the reader from the file contents")
+    public void testFormatDetection() throws IOException {
+        Path binary = tempDir.resolve("detect.bin");
+        BinaryGraphWriter.convert("input_example.json", binary.toString());
+
+        try (GraphSource source = GraphSource.open(binary.toString())) {
+            assertInstanceOf(BinaryGraphReader.class, source);
+        }
+        try (GraphSource source = GraphSource.open("input_example.json")) {
+            assertInstanceOf(JsonGraphReader.class, source);
+        }
+    }
+
+    @Test
+    @DisplayName("Truncated file is rejected")
+    public void testTruncatedFile() throws IOException {
+        Path binary = tempDir.resolve("truncated.mstg");
+        BinaryGraphWriter.convert("input_example.json", binary.toString());
+        byte[] data = Files.readAllBytes(binary);
+        Files.write(binary, Arrays.copyOf(data, data.length - 10));
+
+        try (BinaryGraphReader reader = new BinaryGraphReader(binary.toString())) {
+            assertThrows(UncheckedIOException.class, () -> {
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+            });
+        }
+    }
+}
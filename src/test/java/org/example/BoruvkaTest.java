@@ -0,0 +1,113 @@
+package org.example;
+
+import org.example.algo.Boruvka;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for parallel Borůvka.
+ */
+@DisplayName("Boruvka Algorithm Tests")
+public class BoruvkaTest {
+
+    @Test
+    @DisplayName("Equal weights resolve deterministically")
+    public void testEqualWeights() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 1),
+                new Edge("C", "D", 1),
+                new Edge("D", "A", 1)
+            )
+        );
+
+        Result result = Boruvka.computeMST(graph, new Metrics());
+
+        assertEquals(3, result.getTotalCost());
+        assertEquals(3, result.getMstEdges().size(), "Equal-weight cycle must not produce a 4th edge");
+    }
+
+    @Test
+    @DisplayName("Disconnected graph (forest with 3 components)")
+    public void testThreeComponents() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D", "E", "F"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("C", "D", 2),
+                new Edge("E", "F", 3)
+            )
+        );
+
+        Result result = Boruvka.computeMST(graph, new Metrics());
+
+        assertEquals(6, result.getTotalCost());
+        assertEquals(3, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Empty graph")
+    public void testEmptyGraph() {
+        Result result = Boruvka.computeMST(
+            new Graph(Collections.emptyList(), Collections.emptyList()), new Metrics());
+
+        assertEquals(0, result.getTotalCost());
+        assertEquals(0, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Random graphs: same edge set as Kruskal")
+    public void testRandomGraphsMatchKruskal() {
+        Random random = new Random(5);
+
+        for (int round = 0; round < 20; round++) {
+            int n = 2 + random.nextInt(300);
+            CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(random, n, random.nextInt(n * 4), 0, random.nextInt(50)));
+
+            Result expected = KruskalPacked.computeMST(graph, new Metrics());
+            Result actual = Boruvka.computeMST(graph, new Metrics());
+
+            assertEquals(expected.getTotalCost(), actual.getTotalCost());
+            assertEquals(new HashSet<>(expected.getMstEdges()), new HashSet<>(actual.getMstEdges()));
+        }
+    }
+
+    @Test
+    @DisplayName("Large graph spans several parallel chunks")
+    public void testLargeGraphParallel() {
+        CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(new Random(9), 20_000, 100_000, 0, 99));
+
+        Result expected = KruskalPacked.computeMST(graph, new Metrics());
+        Result actual = Boruvka.computeMST(graph, new Metrics());
+
+        assertEquals(expected.getTotalCost(), actual.getTotalCost());
+        assertEquals(expected.getMstEdges().size(), actual.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Parallel runs return the same edge list in the same order")
+    public void testParallelEdgeOrderDeterministic() {
+        CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(new Random(21), 20_000, 100_000, 0, 99));
+
+        Result first = Boruvka.computeMST(graph, new Metrics());
+        for (int run = 0; run < 5; run++) {
+            Result again = Boruvka.computeMST(graph, new Metrics());
+            assertEquals(first.getMstEdges(), again.getMstEdges());
+        }
+    }
+}
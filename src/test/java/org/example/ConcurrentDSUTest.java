@@ -0,0 +1,110 @@
+package org.example;
+
+import org.example.algo.ConcurrentDSU;
+import org.example.algo.DSU;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the lock-free DSU, including a multi-threaded stress test
+ * checked against the sequential DSU.
+ */
+@DisplayName("Concurrent DSU Tests")
+public class ConcurrentDSUTest {
+
+    @Test
+    @DisplayName("Single-threaded union/find")
+    public void testBasicOperations() {
+        ConcurrentDSU dsu = new ConcurrentDSU(5);
+
+        assertNotEquals(dsu.find(0), dsu.find(1));
+        assertFalse(dsu.sameSet(0, 1));
+
+        assertTrue(dsu.union(0, 1));
+        assertTrue(dsu.union(2, 3));
+        assertTrue(dsu.union(1, 3));
+
+        assertTrue(dsu.sameSet(0, 2));
+        assertFalse(dsu.sameSet(0, 4));
+        assertFalse(dsu.union(0, 3), "Already joined");
+    }
+
+    @Test
+    @DisplayName("Stress: concurrent unions give the same partition as sequential DSU")
+    public void testConcurrentStress() throws InterruptedException {
+        int n = 50_000;
+        int unionsPerThread = 20_000;
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        Random random = new Random(123);
+        int[][] pairs = new int[threads * unionsPerThread][2];
+        for (int[] pair : pairs) {
+            pair[0] = random.nextInt(n);
+            pair[1] = random.nextInt(n);
+        }
+
+        for (int round = 0; round < 5; round++) {
+            ConcurrentDSU concurrent = new ConcurrentDSU(n);
+            AtomicInteger successfulUnions = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                int from = t * unionsPerThread;
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = from; i < from + unionsPerThread; i++) {
+                        if (concurrent.union(pairs[i][0], pairs[i][1])) {
+                            successfulUnions.incrementAndGet();
+                        }
+                        concurrent.find(pairs[i][1]);
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            DSU sequential = new DSU(n);
+            int sequentialUnions = 0;
+            for (int[] pair : pairs) {
+                if (sequential.union(pair[0], pair[1])) {
+                    sequentialUnions++;
+                }
+            }
+
+            assertEquals(sequentialUnions, successfulUnions.get(),
+                "Each merge must be reported by exactly one thread");
+
+            // Same partition: root maps must be a bijection between the two DSUs
+            int[] concurrentToSequential = new int[n];
+            Arrays.fill(concurrentToSequential, -1);
+            for (int v = 0; v < n; v++) {
+                int c = concurrent.find(v);
+                int s = sequential.find(v);
+                if (concurrentToSequential[c] == -1) {
+                    concurrentToSequential[c] = s;
+                }
+                assertEquals(concurrentToSequential[c], s, "Vertex " + v + " is in a different set");
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example;
+
+import org.example.algo.Kruskal;
+import org.example.algo.PrimSimple;
+import org.example.algo.Result;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the CSR graph view and the algorithms running on it.
+ */
+@DisplayName("CSR Graph Tests")
+public class CsrGraphTest {
+
+    private Graph exampleGraph() {
+        return new Graph(
+            Arrays.asList("A", "B", "C", "D", "E"),
+            Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("Adjacency matches incident edges")
+    public void testAdjacency() {
+        Graph graph = exampleGraph();
+        CsrGraph csr = new CsrGraph(graph);
+
+        assertEquals(5, csr.getNodeCount());
+        assertEquals(7, csr.getEdgeCount());
+
+        for (int v = 0; v < csr.getNodeCount(); v++) {
+            String name = csr.getNodeName(v);
+            assertEquals(graph.getIncidentEdges(name).size(), csr.degree(v),
+                "Degree of " + name + " should match incident edge count");
+
+            for (int slot = csr.adjStart(v); slot < csr.adjEnd(v); slot++) {
+                Edge edge = csr.getEdge(csr.adjEdge(slot));
+                String target = csr.getNodeName(csr.adjTarget(slot));
+                assertTrue(edge.u.equals(name) || edge.v.equals(name));
+                assertTrue(edge.u.equals(target) || edge.v.equals(target));
+                assertEquals(edge.w, csr.adjWeight(slot));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Empty graph")
+    public void testEmptyGraph() {
+        CsrGraph csr = new CsrGraph(new Graph(Collections.emptyList(), Collections.emptyList()));
+
+        assertEquals(0, csr.getNodeCount());
+        assertEquals(0, csr.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Unknown vertex in edge list is rejected")
+    public void testUnknownVertex() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B"),
+            Collections.singletonList(new Edge("A", "Z", 1))
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> new CsrGraph(graph));
+    }
+
+    @Test
+    @DisplayName("All engines agree when run on CSR")
+    public void testAlgorithmsOnCsr() {
+        CsrGraph csr = new CsrGraph(exampleGraph());
+
+        Result prim = PrimSimple.computeMST(csr, new Metrics());
+        Result kruskal = Kruskal.computeMST(csr, new Metrics());
+        MST.Result monoPrim = MST.primSimple(csr);
+        MST.Result monoKruskal = MST.kruskal(csr);
+
+        assertEquals(16, prim.getTotalCost());
+        assertEquals(16, kruskal.getTotalCost());
+        assertEquals(16, monoPrim.totalCost);
+        assertEquals(16, monoKruskal.totalCost);
+        assertEquals(4, prim.getMstEdges().size());
+        assertEquals(4, kruskal.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Graph and Result accessors are read-only views without copying")
+    public void testZeroCopyAccessors() {
+        Graph graph = exampleGraph();
+        Result result = Kruskal.computeMST(graph, new Metrics());
+
+        assertSame(graph.getNodes(), graph.getNodes());
+        assertSame(graph.getEdges(), graph.getEdges());
+        assertSame(result.getMstEdges(), result.getMstEdges());
+
+        assertThrows(UnsupportedOperationException.class, () -> graph.getNodes().add("Z"));
+        assertThrows(UnsupportedOperationException.class, () -> graph.getEdges().clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getMstEdges().remove(0));
+    }
+
+    @Test
+    @DisplayName("Graph is isolated from later changes to the source lists")
+    public void testDefensiveSnapshot() {
+        List<String> nodes = new ArrayList<>(Arrays.asList("A", "B"));
+        List<Edge> edges = new ArrayList<>(Collections.singletonList(new Edge("A", "B", 1)));
+        Graph graph = new Graph(nodes, edges);
+
+        nodes.add("C");
+        edges.clear();
+
+        assertEquals(2, graph.getNodeCount());
+        assertEquals(1, graph.getEdgeCount());
+    }
+}
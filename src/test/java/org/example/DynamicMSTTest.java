@@ -0,0 +1,145 @@
+package org.example;
+
+import org.example.algo.DynamicMST;
+import org.example.algo.Kruskal;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the fully dynamic MST (insert, delete, reweight).
+ */
+@DisplayName("Dynamic MST Tests")
+public class DynamicMSTTest {
+
+    private Graph exampleGraph() {
+        return new Graph(
+            Arrays.asList("A", "B", "C", "D", "E"),
+            Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("Initial forest matches packed Kruskal exactly")
+    public void testInitialForest() {
+        Graph graph = exampleGraph();
+        DynamicMST mst = new DynamicMST(graph);
+        Result expected = KruskalPacked.computeMST(graph, new Metrics());
+
+        assertEquals(16, mst.getTotalCost());
+        assertEquals(4, mst.getEdgeCount());
+        assertEquals(new HashSet<>(expected.getMstEdges()),
+            new HashSet<>(mst.toResult().getMstEdges()));
+    }
+
+    @Test
+    @DisplayName("Deleting a tree edge picks the lightest replacement")
+    public void testDeleteTreeEdge() {
+        DynamicMST mst = new DynamicMST(exampleGraph());
+
+        // B-D (5) is in the tree; replacements across its cut are C-D (7) and C-E (8)
+        assertTrue(mst.isTreeEdge(3));
+        mst.delete(3);
+        assertEquals(18, mst.getTotalCost(), "2+3+6+7=18");
+        assertTrue(mst.isTreeEdge(4));
+
+        // C-D (7) gone too: C-E (8) is the only way to reach {D, E}
+        mst.delete(4);
+        assertEquals(19, mst.getTotalCost(), "2+3+6+8=19");
+
+        // D-E (6) gone: D is cut off
+        mst.delete(6);
+        assertEquals(13, mst.getTotalCost());
+        assertEquals(3, mst.getEdgeCount());
+        assertThrows(IllegalArgumentException.class, () -> mst.delete(6));
+    }
+
+    @Test
+    @DisplayName("Reweighting moves edges into and out of the tree")
+    public void testReweight() {
+        DynamicMST mst = new DynamicMST(exampleGraph());
+
+        // Non-tree C-E (8) becomes cheap and replaces D-E (6)
+        mst.reweight(5, 1);
+        assertEquals(11, mst.getTotalCost(), "2+3+5+1=11");
+        assertFalse(mst.isTreeEdge(6));
+
+        // Tree edge B-C (2) becomes expensive; A-B (4) takes over
+        mst.reweight(2, 10);
+        assertEquals(13, mst.getTotalCost(), "4+3+5+1=13");
+        assertFalse(mst.isTreeEdge(2));
+
+        // Tree edge made lighter stays in the tree
+        mst.reweight(3, 0);
+        assertEquals(8, mst.getTotalCost());
+        assertTrue(mst.isTreeEdge(3));
+    }
+
+    @Test
+    @DisplayName("Random operation sequences: same cost as recomputing from scratch")
+    public void testRandomOperationsMatchKruskal() {
+        Random random = new Random(18);
+
+        for (int round = 0; round < 20; round++) {
+            int n = 1 + random.nextInt(60);
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                nodes.add("v" + i);
+            }
+            List<Edge> initial = new ArrayList<>();
+            for (int i = random.nextInt(n * 3 + 1); i > 0; i--) {
+                initial.add(new Edge("v" + random.nextInt(n), "v" + random.nextInt(n), random.nextInt(50) - 10));
+            }
+
+            DynamicMST mst = new DynamicMST(new Graph(nodes, initial));
+            Map<Integer, Edge> live = new TreeMap<>();
+            for (int h = 0; h < initial.size(); h++) {
+                live.put(h, initial.get(h));
+            }
+
+            for (int step = 0; step < 200; step++) {
+                int op = random.nextInt(3);
+                if (op == 0 || live.isEmpty()) {
+                    Edge edge = new Edge("v" + random.nextInt(n), "v" + random.nextInt(n), random.nextInt(50) - 10);
+                    live.put(mst.insert(edge), edge);
+                } else {
+                    Integer[] handles = live.keySet().toArray(new Integer[0]);
+                    int handle = handles[random.nextInt(handles.length)];
+                    if (op == 1) {
+                        mst.delete(handle);
+                        live.remove(handle);
+                    } else {
+                        mst.reweight(handle, random.nextInt(50) - 10);
+                        live.put(handle, mst.getEdge(handle));
+                    }
+                }
+
+                Result expected = Kruskal.computeMST(new Graph(nodes, new ArrayList<>(live.values())), new Metrics());
+                assertEquals(expected.getTotalCost(), mst.getTotalCost(), "round " + round + ", step " + step);
+                assertEquals(expected.getMstEdges().size(), mst.getEdgeCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example;
+
+import org.example.algo.ExternalKruskal;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.io.BinaryGraphReader;
+import org.example.io.BinaryGraphWriter;
+import org.example.io.MappedGraph;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for out-of-core Kruskal (sorted runs on disk + k-way merge).
+ */
+@DisplayName("External Kruskal Tests")
+public class ExternalKruskalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<Edge> collect(CsrGraph graph, int runSize, int fanIn) throws IOException {
+        List<Edge> accepted = new ArrayList<>();
+        ExternalKruskal.computeMST(graph, tempDir, runSize, fanIn,
+            (edge, u, v, weight) -> accepted.add(graph.getEdge(edge)), new Metrics());
+        return accepted;
+    }
+
+    @Test
+    @DisplayName("Random graphs: same edges as packed Kruskal for any run size")
+    public void testRandomGraphsMatchKruskal() throws IOException {
+        Random random = new Random(20);
+
+        for (int round = 0; round < 20; round++) {
+            int n = 1 + random.nextInt(100);
+            CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(random, n, random.nextInt(n * 4 + 1), -10, 89));
+            Result expected = KruskalPacked.computeMST(graph, new Metrics());
+
+            for (int runSize : new int[]{1, 7, 64, 1 << 20}) {
+                assertEquals(expected.getMstEdges(), collect(graph, runSize, 3), "runSize " + runSize);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Many runs need intermediate merge passes; temp files are removed")
+    public void testMultiPassMerge() throws IOException {
+        CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(new Random(5), 500, 5_000, -10, 89));
+        Result expected = KruskalPacked.computeMST(graph, new Metrics());
+
+        List<Edge> accepted = new ArrayList<>();
+        ExternalKruskal.Summary summary = ExternalKruskal.computeMST(graph, tempDir, 50, 4,
+            (edge, u, v, weight) -> accepted.add(graph.getEdge(edge)), new Metrics());
+
+        assertEquals(100, summary.getRunCount());
+        assertEquals(3, summary.getMergePasses(), "100 -> 25 -> 7 -> 2 runs");
+        assertEquals(expected.getTotalCost(), summary.getTotalCost());
+        assertEquals(expected.getMstEdges().size(), summary.getEdgeCount());
+        assertEquals(expected.getMstEdges(), accepted);
+
+        try (Stream<Path> leftovers = Files.list(tempDir)) {
+            assertEquals(0, leftovers.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Runs straight from a memory-mapped binary graph")
+    public void testMappedInput() throws IOException {
+        Graph graph = TestGraphs.randomGraph(new Random(9), 300, 2_000, -10, 89);
+        Path binary = Files.createTempFile(tempDir, "graph", ".mstg");
+        try (BinaryGraphWriter writer = new BinaryGraphWriter(binary.toString())) {
+            writer.write("g", graph);
+        }
+        Result expected = KruskalPacked.computeMST(graph, new Metrics());
+
+        Path runs = Files.createDirectory(tempDir.resolve("runs"));
+        try (BinaryGraphReader reader = new BinaryGraphReader(binary.toString())) {
+            MappedGraph mapped = reader.nextMapped();
+            ExternalKruskal.Summary summary = ExternalKruskal.computeMST(mapped, runs, 128, 8,
+                (edge, u, v, weight) -> { }, new Metrics());
+
+            assertEquals(expected.getTotalCost(), summary.getTotalCost());
+            assertEquals(expected.getMstEdges().size(), summary.getEdgeCount());
+        }
+    }
+}
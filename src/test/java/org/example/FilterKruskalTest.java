@@ -0,0 +1,88 @@
+package org.example;
+
+import org.example.algo.FilterKruskal;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Filter-Kruskal (partition + filter before sorting).
+ */
+@DisplayName("Filter-Kruskal Algorithm Tests")
+public class FilterKruskalTest {
+
+    @Test
+    @DisplayName("Small graph handled by base case")
+    public void testSmallGraph() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("A", "C", 4),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("B", "D", 5)
+            )
+        );
+
+        Result result = FilterKruskal.computeMST(graph, new Metrics());
+
+        assertEquals(6, result.getTotalCost(), "MST cost: 1+2+3=6");
+        assertEquals(3, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Empty graph")
+    public void testEmptyGraph() {
+        Result result = FilterKruskal.computeMST(
+            new Graph(Collections.emptyList(), Collections.emptyList()), new Metrics());
+
+        assertEquals(0, result.getTotalCost());
+        assertEquals(0, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Random dense and sparse graphs: identical result to packed Kruskal")
+    public void testRandomGraphsMatchKruskal() {
+        Random random = new Random(11);
+
+        for (int round = 0; round < 30; round++) {
+            int n = 2 + random.nextInt(200);
+            int m = random.nextInt(n * (round % 2 == 0 ? 2 : 20));
+            CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(random, n, m, 0, random.nextInt(1000)));
+
+            Result expected = KruskalPacked.computeMST(graph, new Metrics());
+            Result actual = FilterKruskal.computeMST(graph, new Metrics());
+
+            assertEquals(expected.getTotalCost(), actual.getTotalCost());
+            assertEquals(expected.getMstEdges(), actual.getMstEdges());
+        }
+    }
+
+    @Test
+    @DisplayName("Dense graph: same cost as packed Kruskal, most edges never sorted")
+    public void testDenseGraph() {
+        CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(new Random(3), 100, 20_000, 0, 999_999));
+        int m = graph.getEdgeCount();
+
+        FilterKruskal.Work work = new FilterKruskal.Work();
+        Result expected = KruskalPacked.computeMST(graph, new Metrics());
+        Result actual = FilterKruskal.computeMST(graph, new Metrics(), work);
+
+        assertEquals(expected.getTotalCost(), actual.getTotalCost());
+        assertTrue(work.getSortedKeys() < m / 10,
+            "Base cases sorted " + work.getSortedKeys() + " of " + m + " keys");
+        assertTrue(work.getSortedKeys() + work.getFilteredKeys() <= m, "No key is both sorted and dropped");
+    }
+}
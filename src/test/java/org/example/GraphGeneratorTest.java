@@ -0,0 +1,137 @@
+package org.example;
+
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.gen.GraphGenerator;
+import org.example.io.JsonGraphReader;
+import org.example.io.JsonGraphWriter;
+import org.example.io.JsonIO;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the seeded synthetic graph generator.
+ */
+@DisplayName("Graph Generator Tests")
+public class GraphGeneratorTest {
+
+    private Graph generate(long seed, GraphGenerator.Shape shape, int vertices, double degree, int components) {
+        GraphGenerator generator = new GraphGenerator(seed, 100);
+        return GraphGenerator.toGraph(sink -> generator.generate(shape, vertices, degree, components, sink));
+    }
+
+    private List<String> describe(Graph graph) {
+        List<String> edges = new ArrayList<>();
+        for (Edge edge : graph.getEdges()) {
+            edges.add(edge.toString());
+        }
+        return edges;
+    }
+
+    @Test
+    @DisplayName("Same seed gives the same graph for every shape")
+    public void testReproducible() {
+        for (GraphGenerator.Shape shape : GraphGenerator.Shape.values()) {
+            Graph first = generate(7, shape, 300, 6, 3);
+            Graph second = generate(7, shape, 300, 6, 3);
+            Graph other = generate(8, shape, 300, 6, 3);
+
+            assertEquals(describe(first), describe(second), shape + " must be reproducible");
+            assertNotEquals(describe(first), describe(other), shape + " must depend on the seed");
+        }
+    }
+
+    @Test
+    @DisplayName("Grid and complete graphs have exact edge counts")
+    public void testExactShapes() {
+        Graph grid = generate(1, GraphGenerator.Shape.GRID, 100, 0, 0);
+        assertEquals(100, grid.getNodeCount());
+        assertEquals(2 * 10 * 9, grid.getEdgeCount());
+
+        Graph complete = generate(1, GraphGenerator.Shape.COMPLETE, 20, 0, 0);
+        assertEquals(20 * 19 / 2, complete.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Erdős–Rényi edge count follows the average degree")
+    public void testErdosRenyi() {
+        Graph graph = generate(1, GraphGenerator.Shape.ERDOS_RENYI, 1000, 8, 0);
+
+        assertEquals(1000, graph.getNodeCount());
+        assertEquals(4000, graph.getEdgeCount());
+        for (Edge edge : graph.getEdges()) {
+            assertNotEquals(edge.u, edge.v, "No self-loops");
+            assertTrue(edge.w >= 1 && edge.w <= 100, "Weight within [1, maxWeight]");
+        }
+    }
+
+    @Test
+    @DisplayName("Multi-component graph has exactly the requested components")
+    public void testMultiComponent() {
+        Graph graph = generate(3, GraphGenerator.Shape.MULTI_COMPONENT, 1000, 5, 7);
+
+        Result forest = KruskalPacked.computeMST(graph, new Metrics());
+
+        assertEquals(1000 - 7, forest.getMstEdges().size(), "Spanning forest has V - components edges");
+    }
+
+    @Test
+    @DisplayName("Power-law and geometric graphs are non-trivial")
+    public void testPowerLawAndGeometric() {
+        Graph powerLaw = generate(5, GraphGenerator.Shape.POWER_LAW, 2000, 4, 0);
+        Graph geometric = generate(5, GraphGenerator.Shape.GEOMETRIC, 2000, 8, 0);
+
+        // BA with k=2: a seed triangle, then 2 edges per new vertex
+        assertEquals(3 + 2 * (2000 - 3), powerLaw.getEdgeCount());
+        // Expected ~V*d/2 = 8000 edges, fewer near the borders
+        assertTrue(geometric.getEdgeCount() > 5000 && geometric.getEdgeCount() < 9000,
+            "Geometric edge count " + geometric.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Geometric graph with a tiny degree keeps the cell grid small")
+    public void testGeometricTinyDegree() {
+        // Radius ~1e-6 would ask for a 2^15 x 2^15 grid without the sqrt(n) bound
+        Graph geometric = generate(5, GraphGenerator.Shape.GEOMETRIC, 1000, 1e-9, 0);
+
+        assertEquals(1000, geometric.getNodeCount());
+        assertTrue(geometric.getEdgeCount() < 10);
+    }
+
+    @Test
+    @DisplayName("Generated file round-trips through the input reader")
+    public void testWriteAndReadBack() throws IOException {
+        GraphGenerator generator = new GraphGenerator(9, 50);
+        StringWriter out = new StringWriter();
+        List<Edge> written = new ArrayList<>();
+
+        try (JsonGraphWriter writer = new JsonGraphWriter(out)) {
+            writer.beginGraph("g1", 50, GraphGenerator::vertexName);
+            generator.erdosRenyi(50, 120, (u, v, w) -> written.add(
+                new Edge(GraphGenerator.vertexName(u), GraphGenerator.vertexName(v), w)));
+            for (Edge edge : written) {
+                writer.edge(edge.u, edge.v, edge.w);
+            }
+            writer.endGraph();
+        }
+
+        try (JsonGraphReader reader = new JsonGraphReader(new StringReader(out.toString()))) {
+            JsonIO.InputGraph input = reader.next();
+            assertEquals("g1", input.id);
+            assertEquals(50, input.graph.getNodeCount());
+            assertEquals(120, input.graph.getEdgeCount());
+            assertEquals(written.get(0).toString(), input.graph.getEdges().get(0).toString());
+        }
+    }
+}
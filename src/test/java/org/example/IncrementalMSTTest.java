@@ -0,0 +1,105 @@
+package org.example;
+
+import org.example.algo.IncrementalMST;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MST maintenance under edge insertions.
+ */
+@DisplayName("Incremental MST Tests")
+public class IncrementalMSTTest {
+
+    @Test
+    @DisplayName("Lighter edge replaces the heaviest edge on its cycle")
+    public void testReplaceCycleMax() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 5),
+                new Edge("C", "D", 2)
+            )
+        );
+        IncrementalMST mst = new IncrementalMST(graph, KruskalPacked.computeMST(graph, new Metrics()));
+        assertEquals(8, mst.getTotalCost());
+
+        // A-C closes A-B-C; B-C (5) is the heaviest edge and gets replaced
+        assertEquals(6, mst.insert(new Edge("A", "C", 3)));
+        // B-D closes B-A-C-D; heaviest is A-C (3), not worth replacing with 4
+        assertEquals(6, mst.insert(new Edge("B", "D", 4)));
+        assertEquals(3, mst.getEdgeCount());
+
+        Result result = mst.toResult();
+        assertEquals(6, result.getTotalCost());
+        assertEquals(3, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Insertions join separate components")
+    public void testJoinComponents() {
+        Graph graph = new Graph(Arrays.asList("A", "B", "C"), Collections.emptyList());
+        IncrementalMST mst = new IncrementalMST(graph, KruskalPacked.computeMST(graph, new Metrics()));
+
+        assertEquals(0, mst.insert(new Edge("A", "A", 1)), "Self-loop is ignored");
+        assertEquals(7, mst.insert(new Edge("A", "B", 7)));
+        assertEquals(10, mst.insert(2, 1, 3));
+        assertEquals(2, mst.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Unknown vertex is rejected")
+    public void testUnknownVertex() {
+        Graph graph = new Graph(Arrays.asList("A", "B"), Collections.emptyList());
+        IncrementalMST mst = new IncrementalMST(graph, KruskalPacked.computeMST(graph, new Metrics()));
+
+        assertThrows(IllegalArgumentException.class, () -> mst.insert(new Edge("A", "Z", 1)));
+    }
+
+    @Test
+    @DisplayName("Random insertion batches: same cost as recomputing from scratch")
+    public void testRandomInsertionsMatchKruskal() {
+        Random random = new Random(17);
+
+        for (int round = 0; round < 20; round++) {
+            int n = 1 + random.nextInt(80);
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                nodes.add("v" + i);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = random.nextInt(n * 2 + 1); i > 0; i--) {
+                edges.add(new Edge("v" + random.nextInt(n), "v" + random.nextInt(n), random.nextInt(100) - 20));
+            }
+
+            Graph seedGraph = new Graph(nodes, edges);
+            IncrementalMST mst = new IncrementalMST(seedGraph, KruskalPacked.computeMST(seedGraph, new Metrics()));
+
+            for (int batch = 0; batch < 10; batch++) {
+                for (int i = random.nextInt(10); i > 0; i--) {
+                    Edge edge = new Edge("v" + random.nextInt(n), "v" + random.nextInt(n), random.nextInt(100) - 20);
+                    edges.add(edge);
+                    mst.insert(edge);
+                }
+
+                Result expected = KruskalPacked.computeMST(new Graph(nodes, edges), new Metrics());
+                Result actual = mst.toResult();
+                assertEquals(expected.getTotalCost(), actual.getTotalCost());
+                assertEquals(expected.getMstEdges().size(), actual.getMstEdges().size());
+            }
+        }
+    }
+}
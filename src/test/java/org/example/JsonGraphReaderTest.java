@@ -0,0 +1,115 @@
+package org.example;
+
+import org.example.io.JsonGraphReader;
+import org.example.io.JsonIO;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming input reader.
+ */
+@DisplayName("Streaming JSON Reader Tests")
+public class JsonGraphReaderTest {
+
+    @Test
+    @DisplayName("Reads both edge formats and both node formats")
+    public void testLiberalFormats() throws IOException {
+        String json = "{\"meta\": {\"skip\": [1, 2]}, \"graphs\": ["
+            + "{\"id\": 1, \"nodes\": [\"A\", \"B\", \"C\"],"
+            + " \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 4}, {\"from\": \"B\", \"to\": \"C\", \"weight\": 2}]},"
+            + "{\"edges\": [{\"u\": \"X\", \"v\": \"Y\", \"w\": 7, \"note\": \"extra\"}],"
+            + " \"nodes\": [{\"id\": \"X\"}, {\"id\": \"Y\"}], \"id\": \"g2\"}"
+            + "]}";
+
+        try (JsonGraphReader reader = new JsonGraphReader(new StringReader(json))) {
+            assertTrue(reader.hasNext());
+            JsonIO.InputGraph first = reader.next();
+            assertEquals("1", first.id);
+            assertEquals(List.of("A", "B", "C"), first.graph.getNodes());
+            assertEquals(2, first.graph.getEdgeCount());
+
+            JsonIO.InputGraph second = reader.next();
+            assertEquals("g2", second.id, "Keys may appear in any order");
+            assertEquals(List.of("X", "Y"), second.graph.getNodes());
+            Edge edge = second.graph.getEdges().get(0);
+            assertEquals("X", edge.u);
+            assertEquals("Y", edge.v);
+            assertEquals(7, edge.w);
+
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Stream yields graphs in file order")
+    public void testStream() throws IOException {
+        String json = "{\"graphs\": [{\"id\": 1, \"nodes\": [], \"edges\": []},"
+            + " {\"id\": 2, \"nodes\": [\"A\"], \"edges\": []}]}";
+
+        JsonGraphReader reader = new JsonGraphReader(new StringReader(json));
+        List<String> ids = reader.stream().map(input -> input.id).collect(Collectors.toList());
+
+        assertEquals(List.of("1", "2"), ids);
+    }
+
+    @Test
+    @DisplayName("Missing graphs array is rejected")
+    public void testMissingGraphs() {
+        assertThrows(IOException.class, () -> new JsonGraphReader(new StringReader("{\"other\": []}")));
+    }
+
+    @Test
+    @DisplayName("Example input file matches readInputs")
+    public void testExampleFile() throws IOException {
+        List<JsonIO.InputGraph> inputs = JsonIO.readInputs("input_example.json");
+
+        assertFalse(inputs.isEmpty());
+        for (JsonIO.InputGraph input : inputs) {
+            assertTrue(input.graph.getNodeCount() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Edges before nodes: ids follow node-list order and names are shared")
+    public void testInternedIds() throws IOException {
+        String json = "{\"graphs\": [{\"id\": 1,"
+            + " \"edges\": [{\"u\": \"C\", \"v\": \"A\", \"w\": 2}, {\"u\": \"A\", \"v\": \"B\", \"w\": 1}],"
+            + " \"nodes\": [\"A\", \"B\", \"C\"]}]}";
+
+        try (JsonGraphReader reader = new JsonGraphReader(new StringReader(json))) {
+            JsonIO.InputGraph input = reader.next();
+            List<String> nodes = input.graph.getNodes();
+            Edge first = input.graph.getEdges().get(0);
+
+            assertEquals(List.of("A", "B", "C"), nodes);
+            assertSame(nodes.get(2), first.u, "Edge endpoints reuse the interned node name");
+            assertSame(nodes.get(0), first.v);
+
+            CsrGraph csr = new CsrGraph(input.graph);
+            assertEquals(2, csr.edgeU(0));
+            assertEquals(0, csr.edgeV(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Edge with undeclared vertex is rejected")
+    public void testUnknownVertex() throws IOException {
+        String json = "{\"graphs\": [{\"id\": 1, \"nodes\": [\"A\"],"
+            + " \"edges\": [{\"u\": \"A\", \"v\": \"Z\", \"w\": 1}]}]}";
+
+        try (JsonGraphReader reader = new JsonGraphReader(new StringReader(json))) {
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, reader::next);
+            assertTrue(e.getMessage().contains("Z"));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import org.example.io.JsonIO;
+import org.example.io.JsonResultWriter;
+import org.example.model.Edge;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the incremental result writer.
+ */
+@DisplayName("Streaming JSON Writer Tests")
+public class JsonResultWriterTest {
+
+    private JsonIO.OutputRecord sampleRecord() {
+        JsonIO.OutputRecord record = new JsonIO.OutputRecord("1", 3, 3);
+        record.primEdges = Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2));
+        record.primTotalCost = 3;
+        record.primOpsCount = 8;
+        record.primTimeMs = 0.05;
+        record.kruskalEdges = record.primEdges;
+        record.kruskalTotalCost = 3;
+        record.kruskalOpsCount = 10;
+        record.kruskalTimeMs = 0.02;
+        return record;
+    }
+
+    private String write(boolean pretty) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonResultWriter writer = new JsonResultWriter(out, pretty)) {
+            writer.write(sampleRecord());
+            writer.write(sampleRecord());
+            writer.finish();
+        }
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Records follow the output schema")
+    public void testSchema() throws IOException {
+        JsonObject root = JsonParser.parseString(write(true)).getAsJsonObject();
+
+        assertEquals(2, root.getAsJsonArray("results").size());
+        JsonObject record = root.getAsJsonArray("results").get(0).getAsJsonObject();
+        assertEquals("1", record.get("graph_id").getAsString());
+        assertEquals(3, record.getAsJsonObject("input_stats").get("vertices").getAsInt());
+
+        JsonObject prim = record.getAsJsonObject("prim");
+        assertEquals(2, prim.getAsJsonArray("mst_edges").size());
+        assertEquals("A", prim.getAsJsonArray("mst_edges").get(0).getAsJsonObject().get("from").getAsString());
+        assertEquals(3, prim.get("total_cost").getAsInt());
+        assertEquals(8, prim.get("operations_count").getAsLong());
+        assertEquals(0.05, prim.get("execution_time_ms").getAsDouble());
+        assertEquals(10, record.getAsJsonObject("kruskal").get("operations_count").getAsLong());
+    }
+
+    @Test
+    @DisplayName("Compact output has the same content without whitespace")
+    public void testCompact() throws IOException {
+        String pretty = write(true);
+        String compact = write(false);
+
+        assertFalse(compact.contains("\n"));
+        assertTrue(compact.length() < pretty.length());
+        assertEquals(JsonParser.parseString(pretty), JsonParser.parseString(compact));
+    }
+
+    @Test
+    @DisplayName("Empty result set")
+    public void testEmpty() throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonResultWriter writer = new JsonResultWriter(out, false)) {
+            writer.finish();
+        }
+
+        assertEquals("{\"results\":[]}", out.toString());
+    }
+
+    @Test
+    @DisplayName("Closing without finish leaves the document unterminated")
+    public void testUnfinished() throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonResultWriter writer = new JsonResultWriter(out, false)) {
+            writer.write(sampleRecord());
+        }
+
+        assertTrue(out.toString().startsWith("{\"results\":[{"));
+        assertFalse(out.toString().endsWith("]}"));
+        assertThrows(JsonSyntaxException.class, () -> JsonParser.parseString(out.toString()));
+    }
+}
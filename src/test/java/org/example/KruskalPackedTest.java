@@ -0,0 +1,124 @@
+package org.example;
+
+import org.example.algo.Kruskal;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Kruskal over packed primitive sort keys.
+ */
+@DisplayName("Packed Kruskal Algorithm Tests")
+public class KruskalPackedTest {
+
+    @Test
+    @DisplayName("Example Graph 1 (5 vertices, 7 edges)")
+    public void testExampleGraph1() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D", "E"),
+            Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+            )
+        );
+
+        Result result = KruskalPacked.computeMST(graph, new Metrics());
+
+        assertEquals(16, result.getTotalCost(), "MST cost: 2+3+5+6=16");
+        assertEquals(4, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Negative weights sort before positive ones")
+    public void testNegativeWeights() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C"),
+            Arrays.asList(
+                new Edge("A", "B", 3),
+                new Edge("B", "C", -2),
+                new Edge("A", "C", -1)
+            )
+        );
+
+        Result result = KruskalPacked.computeMST(graph, new Metrics());
+
+        assertEquals(-3, result.getTotalCost(), "MST cost: -2 + -1 = -3");
+    }
+
+    @Test
+    @DisplayName("Isolated vertices do not block early termination")
+    public void testIsolatedVertices() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "X", "Y"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("A", "C", 3)
+            )
+        );
+        Metrics metrics = new Metrics();
+
+        Result result = KruskalPacked.computeMST(graph, metrics);
+
+        assertEquals(3, result.getTotalCost());
+        assertEquals(2, result.getMstEdges().size());
+        // Sort (3) + two accepted edges with 2 finds and 1 union each; A-C is never examined
+        assertEquals(9, metrics.get(), "Scan should stop after the second accepted edge");
+    }
+
+    @Test
+    @DisplayName("Empty graph")
+    public void testEmptyGraph() {
+        Result result = KruskalPacked.computeMST(
+            new Graph(Collections.emptyList(), Collections.emptyList()), new Metrics());
+
+        assertEquals(0, result.getTotalCost());
+        assertEquals(0, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Random graphs: identical edges to comparator Kruskal")
+    public void testRandomGraphsMatchKruskal() {
+        Random random = new Random(7);
+
+        for (int round = 0; round < 20; round++) {
+            int n = 1 + random.nextInt(60);
+            int m = random.nextInt(n * 3 + 1);
+
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                nodes.add("v" + i);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < m; i++) {
+                edges.add(new Edge("v" + random.nextInt(n), "v" + random.nextInt(n), random.nextInt(10)));
+            }
+            CsrGraph graph = new CsrGraph(new Graph(nodes, edges));
+
+            Result expected = Kruskal.computeMST(graph, new Metrics());
+            Result actual = KruskalPacked.computeMST(graph, new Metrics());
+
+            // Both sorts are stable on edge id, so the chosen edges are identical
+            assertEquals(expected.getTotalCost(), actual.getTotalCost());
+            assertEquals(expected.getMstEdges(), actual.getMstEdges());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example;
+
+import org.example.algo.Algorithm;
+import org.example.algo.KruskalPacked;
+import org.example.algo.KruskalRadix;
+import org.example.algo.KruskalRadix.SortMode;
+import org.example.algo.Result;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Kruskal with counting / radix sort on integer weights.
+ */
+@DisplayName("Radix Kruskal Algorithm Tests")
+public class KruskalRadixTest {
+
+    @Test
+    @DisplayName("Sort selection follows edge count and weight range")
+    public void testSelectSort() {
+        assertEquals(SortMode.COUNTING, KruskalRadix.selectSort(1000, 1, 100));
+        assertEquals(SortMode.COUNTING, KruskalRadix.selectSort(10, -50, 50));
+        assertEquals(SortMode.RADIX, KruskalRadix.selectSort(100_000, 1, 1_000_000_000));
+        assertEquals(SortMode.RADIX, KruskalRadix.selectSort(5000, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(SortMode.COMPARISON, KruskalRadix.selectSort(100, 1, 1_000_000));
+    }
+
+    @Test
+    @DisplayName("Negative weights and full int range")
+    public void testExtremeWeights() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D"),
+            Arrays.asList(
+                new Edge("A", "B", Integer.MAX_VALUE),
+                new Edge("B", "C", Integer.MIN_VALUE),
+                new Edge("C", "D", -1),
+                new Edge("A", "D", 0),
+                new Edge("A", "C", Integer.MAX_VALUE - 1)
+            )
+        );
+        CsrGraph csr = new CsrGraph(graph);
+        Result expected = KruskalPacked.computeMST(csr, new Metrics());
+
+        for (SortMode mode : new SortMode[]{SortMode.RADIX, SortMode.COMPARISON}) {
+            Result actual = KruskalRadix.computeMST(csr, new Metrics(), mode);
+            assertEquals(expected.getMstEdges(), actual.getMstEdges(), mode.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Empty graph")
+    public void testEmptyGraph() {
+        Result result = KruskalRadix.computeMST(
+            new Graph(Collections.emptyList(), Collections.emptyList()), new Metrics());
+
+        assertEquals(0, result.getTotalCost());
+        assertEquals(0, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Random graphs: every sort mode picks the same edges as packed Kruskal")
+    public void testRandomGraphsMatchKruskal() {
+        Random random = new Random(22);
+        int[][] ranges = {{0, 10}, {-100, 100}, {1, 1_000_000}, {Integer.MIN_VALUE, Integer.MAX_VALUE}};
+
+        for (int round = 0; round < 24; round++) {
+            int[] range = ranges[round % ranges.length];
+            int n = 2 + random.nextInt(300);
+            CsrGraph graph = new CsrGraph(TestGraphs.randomGraph(random, n, random.nextInt(n * 8), range[0], range[1]));
+            Result expected = KruskalPacked.computeMST(graph, new Metrics());
+
+            assertEquals(expected.getMstEdges(), KruskalRadix.computeMST(graph, new Metrics()).getMstEdges());
+            assertEquals(expected.getMstEdges(),
+                KruskalRadix.computeMST(graph, new Metrics(), SortMode.RADIX).getMstEdges());
+            if ((long) range[1] - range[0] < 1_000_000L) {
+                assertEquals(expected.getMstEdges(),
+                    KruskalRadix.computeMST(graph, new Metrics(), SortMode.COUNTING).getMstEdges());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Selectable by name")
+    public void testAlgorithmName() {
+        assertEquals(Algorithm.KRUSKAL_RADIX, Algorithm.fromName("kruskal-radix"));
+    }
+}
@@ -1,12 +1,30 @@
 package org.example;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Result;
+import org.example.cache.ResultCache;
+import org.example.io.BinaryGraphWriter;
+import org.example.io.GraphSource;
+import org.example.io.JsonIO;
+import org.example.io.JsonResultWriter;
 import org.example.model.Edge;
 import org.example.model.Graph;
+import org.example.util.Metrics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,6 +34,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("MST Algorithm Tests")
 public class MSTTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     @DisplayName("Prim: Triangle graph")
     public void testPrimTriangle() {
@@ -194,6 +215,192 @@ public class MSTTest {
         assertEquals(4, primResult.mstEdges.size());
         assertEquals(4, kruskalResult.mstEdges.size());
     }
-}
 
+    @Test
+    @DisplayName("processGraph without timing still computes both results")
+    public void testProcessGraphUntimed() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("A", "C", 3)
+            )
+        );
+
+        MST.OutputRecord record = MST.processGraph(new MST.GraphInput("t", graph), 1, 3, false);
+
+        assertEquals("t", record.graphId);
+        assertEquals(3, record.primResult.totalCost);
+        assertEquals(3, record.kruskalResult.totalCost);
+        assertEquals(0.0, record.primTimeMs);
+        assertEquals(0.0, record.kruskalTimeMs);
+    }
+
+    @Test
+    @DisplayName("processGraph with an engine name runs only that engine")
+    public void testProcessGraphSingleEngine() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("A", "C", 3)
+            )
+        );
+        MST.GraphInput input = new MST.GraphInput("t", graph);
+
+        MST.OutputRecord named = MST.processGraph(input, "kruskal-radix", 1, 3, true);
+        assertEquals("kruskal-radix", named.engine);
+        assertEquals(3, named.result.totalCost);
+        assertNull(named.primResult);
+        assertNull(named.kruskalResult);
+        assertNotNull(named.timing);
 
+        MST.OutputRecord auto = MST.processGraph(input, "auto", 1, 3, false);
+        assertEquals("prim-dense", auto.engine, "A triangle is complete, hence dense");
+        assertEquals(3, auto.result.totalCost);
+
+        assertNull(MST.processGraph(input, null, 1, 3, false).engine, "No name compares prim and kruskal");
+    }
+
+    private static String runParallel(List<JsonIO.InputGraph> inputs, boolean serialTiming) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonResultWriter writer = new JsonResultWriter(out, false)) {
+            int processed = MST.processParallel(inputs.iterator(), writer, null, 0, 2, 3, serialTiming, null);
+            assertEquals(inputs.size(), processed);
+            writer.finish();
+        }
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("processParallel emits records in input order with correct results")
+    public void testProcessParallel() throws IOException {
+        Random random = new Random(17);
+        List<JsonIO.InputGraph> inputs = new ArrayList<>();
+        List<Integer> expectedCosts = new ArrayList<>();
+
+        // Sizes alternate so later graphs often finish before earlier ones
+        for (int i = 0; i < 12; i++) {
+            int n = i % 2 == 0 ? 400 : 5;
+            Graph graph = TestGraphs.randomGraph(random, n, n * 4, 0, 99);
+            inputs.add(new JsonIO.InputGraph("g" + i, graph));
+            expectedCosts.add(MST.processGraph(new MST.GraphInput("g" + i, graph), 0, 1, false).primResult.totalCost);
+        }
+
+        for (boolean serialTiming : new boolean[] {false, true}) {
+            JsonArray results = JsonParser.parseString(runParallel(inputs, serialTiming))
+                .getAsJsonObject().getAsJsonArray("results");
+
+            assertEquals(inputs.size(), results.size());
+            for (int i = 0; i < inputs.size(); i++) {
+                JsonObject record = results.get(i).getAsJsonObject();
+                assertEquals("g" + i, record.get("graph_id").getAsString(), "Records keep input order");
+                assertEquals((int) expectedCosts.get(i), record.getAsJsonObject("prim").get("total_cost").getAsInt());
+                assertEquals((int) expectedCosts.get(i), record.getAsJsonObject("kruskal").get("total_cost").getAsInt());
+                assertEquals(2, record.getAsJsonObject("prim").get("measured_runs").getAsInt(),
+                    "Every record is timed, serialTiming=" + serialTiming);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Records served from the result cache are marked as cached")
+    public void testProcessParallelMarksCacheHits() throws IOException {
+        Graph graph = TestGraphs.randomGraph(new Random(21), 100, 400, 0, 99);
+        List<JsonIO.InputGraph> inputs = Arrays.asList(
+            new JsonIO.InputGraph("first", graph), new JsonIO.InputGraph("again", graph));
+        ResultCache<MST.OutputRecord> cache = new ResultCache<>(4, null, MST.OutputRecord.class);
+
+        StringWriter out = new StringWriter();
+        try (JsonResultWriter writer = new JsonResultWriter(out, false)) {
+            // One worker, so the second graph is looked up after the first is stored
+            MST.processParallel(inputs.iterator(), writer, null, 0, 2, 1, false, cache);
+            writer.finish();
+        }
+        JsonArray results = JsonParser.parseString(out.toString()).getAsJsonObject().getAsJsonArray("results");
+
+        assertFalse(results.get(0).getAsJsonObject().has("cached"), "Computed records carry no flag");
+        assertTrue(results.get(1).getAsJsonObject().get("cached").getAsBoolean());
+        assertEquals("again", results.get(1).getAsJsonObject().get("graph_id").getAsString());
+        assertEquals(1, cache.getHits());
+    }
+
+    private static JsonArray runExternal(String inputPath, Path tempDir) throws IOException {
+        StringWriter out = new StringWriter();
+        try (GraphSource reader = GraphSource.open(inputPath);
+             JsonResultWriter writer = new JsonResultWriter(out, false)) {
+            MST.processExternal(reader, writer, tempDir);
+            writer.finish();
+        }
+        return JsonParser.parseString(out.toString()).getAsJsonObject().getAsJsonArray("results");
+    }
+
+    @Test
+    @DisplayName("processExternal streams the same forest from binary and JSON input")
+    public void testProcessExternal() throws IOException {
+        Random random = new Random(20);
+        List<Graph> graphs = Arrays.asList(
+            TestGraphs.randomGraph(random, 300, 2_000, -10, 89),
+            TestGraphs.randomGraph(random, 50, 30, 0, 9)); // Sparse: a forest
+        Path binary = tempDir.resolve("graphs.bin");
+        try (BinaryGraphWriter writer = new BinaryGraphWriter(binary.toString())) {
+            for (int i = 0; i < graphs.size(); i++) {
+                writer.write("g" + i, graphs.get(i));
+            }
+        }
+
+        JsonArray results = runExternal(binary.toString(), tempDir);
+        assertEquals(graphs.size(), results.size());
+        for (int i = 0; i < graphs.size(); i++) {
+            Result expected = KruskalPacked.computeMST(graphs.get(i), Metrics.noop());
+            JsonObject record = results.get(i).getAsJsonObject();
+            JsonObject external = record.getAsJsonObject("result");
+            assertFalse(record.has("external"), "The result key is fixed, not the engine name");
+
+            assertEquals("g" + i, record.get("graph_id").getAsString());
+            assertEquals("external", record.get("engine").getAsString());
+            assertEquals(expected.getTotalCost(), external.get("total_cost").getAsInt());
+            assertEquals(expected.getMstEdges().size(), external.getAsJsonArray("mst_edges").size());
+            assertEquals(expected.getMstEdges().get(0).u,
+                external.getAsJsonArray("mst_edges").get(0).getAsJsonObject().get("from").getAsString());
+        }
+
+        // JSON input goes through the CSR form and yields the same costs
+        JsonArray fromJson = runExternal("input_example.json", tempDir);
+        try (GraphSource reader = GraphSource.open("input_example.json")) {
+            for (int i = 0; reader.hasNext(); i++) {
+                JsonIO.InputGraph input = reader.next();
+                MST.OutputRecord record = MST.processGraph(new MST.GraphInput(input.id, input.graph), 0, 1, false);
+                assertEquals(record.kruskalResult.totalCost,
+                    fromJson.get(i).getAsJsonObject().getAsJsonObject("result").get("total_cost").getAsInt());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sameResult ignores edge order and endpoint orientation")
+    public void testSameResultOrderIndependent() {
+        MST.Result a = new MST.Result(Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2)), 3, 10);
+        MST.Result reordered = new MST.Result(Arrays.asList(new Edge("C", "B", 2), new Edge("A", "B", 1)), 3, 12);
+        MST.Result different = new MST.Result(Arrays.asList(new Edge("A", "C", 2), new Edge("A", "B", 1)), 3, 10);
+
+        assertTrue(MST.sameResult(a, reordered, false));
+        assertFalse(MST.sameResult(a, reordered), "Operation counts differ");
+        assertFalse(MST.sameResult(a, different, false));
+    }
+
+    @Test
+    @DisplayName("Timed runs of the parallel Boruvka engine agree with each other")
+    public void testProcessGraphBoruvkaTimed() {
+        Graph graph = TestGraphs.randomGraph(new Random(25), 50_000, 400_000, 0, 999);
+        MST.GraphInput input = new MST.GraphInput("big", graph);
+
+        MST.OutputRecord record = MST.processGraph(input, "boruvka", 1, 5, true);
+
+        assertEquals("boruvka", record.engine);
+        assertEquals(5, record.timing.getRuns());
+        assertEquals(KruskalPacked.computeMST(graph, Metrics.noop()).getTotalCost(), record.result.totalCost);
+    }
+}
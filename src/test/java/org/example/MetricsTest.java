@@ -0,0 +1,105 @@
+package org.example;
+
+import org.example.algo.Kruskal;
+import org.example.algo.Result;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Metrics implementations and named counters.
+ */
+@DisplayName("Metrics Tests")
+public class MetricsTest {
+
+    @Test
+    @DisplayName("Named counters add up to the total")
+    public void testNamedCounters() {
+        List<Metrics> all = Arrays.asList(new Metrics(), Metrics.plain(), Metrics.threadLocal(), Metrics.concurrent());
+
+        for (Metrics metrics : all) {
+            metrics.inc(Metrics.Counter.COMPARISONS, 5);
+            metrics.inc(Metrics.Counter.FINDS);
+            metrics.inc(Metrics.Counter.UNIONS);
+            metrics.inc();
+
+            assertEquals(5, metrics.get(Metrics.Counter.COMPARISONS));
+            assertEquals(1, metrics.get(Metrics.Counter.FINDS));
+            assertEquals(1, metrics.get(Metrics.Counter.OTHER));
+            assertEquals(0, metrics.get(Metrics.Counter.HEAP_OPS));
+            assertEquals(8, metrics.get());
+
+            metrics.reset();
+            assertEquals(0, metrics.get());
+        }
+    }
+
+    @Test
+    @DisplayName("No-op metrics count nothing")
+    public void testNoOp() {
+        Metrics metrics = Metrics.noop();
+
+        metrics.inc(Metrics.Counter.FINDS, 10);
+        metrics.inc();
+
+        assertEquals(0, metrics.get());
+    }
+
+    @Test
+    @DisplayName("Concurrent metrics lose no increments across threads")
+    public void testConcurrent() {
+        Metrics metrics = Metrics.concurrent();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> metrics.inc(Metrics.Counter.HEAP_OPS));
+
+        assertEquals(100_000, metrics.get(Metrics.Counter.HEAP_OPS));
+    }
+
+    @Test
+    @DisplayName("Thread-local metrics sum every thread's counts once joined")
+    public void testThreadLocal() throws InterruptedException {
+        Metrics metrics = Metrics.threadLocal();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.inc(Metrics.Counter.FINDS);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, metrics.get(Metrics.Counter.FINDS));
+    }
+
+    @Test
+    @DisplayName("Kruskal reports comparisons, finds and unions separately")
+    public void testKruskalBreakdown() {
+        List<String> nodes = Arrays.asList("A", "B", "C");
+        List<Edge> edges = new ArrayList<>(Arrays.asList(
+            new Edge("A", "B", 1),
+            new Edge("B", "C", 2),
+            new Edge("A", "C", 3)
+        ));
+        Metrics metrics = Metrics.plain();
+
+        Result result = Kruskal.computeMST(new Graph(nodes, edges), metrics);
+
+        assertEquals(3, result.getTotalCost());
+        assertTrue(metrics.get(Metrics.Counter.COMPARISONS) > 0);
+        assertEquals(6, metrics.get(Metrics.Counter.FINDS), "Two finds per edge");
+        assertEquals(2, metrics.get(Metrics.Counter.UNIONS), "One union per accepted edge");
+    }
+}
@@ -0,0 +1,75 @@
+package org.example;
+
+import org.example.algo.Algorithm;
+import org.example.algo.Planner;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for automatic engine selection.
+ */
+@DisplayName("Planner Tests")
+public class PlannerTest {
+
+    private CsrGraph pathGraph(int n, int[] weights) {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            nodes.add("v" + i);
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i + 1 < n; i++) {
+            edges.add(new Edge("v" + i, "v" + (i + 1), weights[i % weights.length]));
+        }
+        return new CsrGraph(new Graph(nodes, edges));
+    }
+
+    @Test
+    @DisplayName("Pre-pass statistics")
+    public void testStatistics() {
+        CsrGraph graph = new CsrGraph(new Graph(
+            Arrays.asList("A", "B", "C", "D", "E"),
+            Arrays.asList(new Edge("A", "B", 7), new Edge("B", "C", -2), new Edge("D", "D", 4))
+        ));
+
+        Planner.Plan plan = Planner.plan(graph);
+
+        assertEquals(5, plan.getNodeCount());
+        assertEquals(3, plan.getEdgeCount());
+        assertEquals(0.3, plan.getDensity(), 1e-9);
+        assertEquals(-2, plan.getMinWeight());
+        assertEquals(7, plan.getMaxWeight());
+        assertEquals(3, plan.getComponents(), "{A,B,C}, {D}, {E}");
+    }
+
+    @Test
+    @DisplayName("Engine choice follows density and weight range")
+    public void testEngineChoice() {
+        Random random = new Random(24);
+        int[] wide = new int[512];
+        for (int i = 0; i < wide.length; i++) {
+            wide[i] = random.nextInt(1_000_000_000);
+        }
+
+        CsrGraph edgeless = new CsrGraph(new Graph(Arrays.asList("A", "B"), new ArrayList<>()));
+        CsrGraph triangle = new CsrGraph(new Graph(
+            Arrays.asList("A", "B", "C"),
+            Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("A", "C", 3))
+        ));
+
+        assertEquals(Algorithm.KRUSKAL_PACKED, Planner.plan(edgeless).getAlgorithm());
+        assertEquals(Algorithm.PRIM_DENSE, Planner.plan(triangle).getAlgorithm());
+        assertEquals(Algorithm.KRUSKAL_RADIX, Planner.plan(pathGraph(1000, new int[]{1, 5, 9})).getAlgorithm());
+        assertEquals(Algorithm.KRUSKAL_RADIX, Planner.plan(pathGraph(5000, wide)).getAlgorithm());
+        assertEquals(Algorithm.KRUSKAL_PACKED, Planner.plan(pathGraph(500, wide)).getAlgorithm());
+    }
+}
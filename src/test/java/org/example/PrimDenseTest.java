@@ -0,0 +1,141 @@
+package org.example;
+
+import org.example.algo.Algorithm;
+import org.example.algo.KruskalPacked;
+import org.example.algo.Planner;
+import org.example.algo.PrimDense;
+import org.example.algo.Result;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the O(V^2) adjacency-matrix Prim.
+ */
+@DisplayName("Dense Prim Algorithm Tests")
+public class PrimDenseTest {
+
+    private Graph completeGraph(Random random, int n, int maxWeight) {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            nodes.add("v" + i);
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                edges.add(new Edge("v" + i, "v" + j, random.nextInt(maxWeight)));
+            }
+        }
+        return new Graph(nodes, edges);
+    }
+
+    @Test
+    @DisplayName("Complete graph K5")
+    public void testCompleteGraph() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D", "E"),
+            Arrays.asList(
+                new Edge("A", "B", 1), new Edge("A", "C", 2), new Edge("A", "D", 3), new Edge("A", "E", 4),
+                new Edge("B", "C", 5), new Edge("B", "D", 6), new Edge("B", "E", 7),
+                new Edge("C", "D", 8), new Edge("C", "E", 9), new Edge("D", "E", 10)
+            )
+        );
+
+        Result result = PrimDense.computeMST(graph, new Metrics());
+
+        assertEquals(10, result.getTotalCost(), "MST: 1+2+3+4=10");
+        assertEquals(4, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Parallel edges, self-loops and disconnected parts")
+    public void testMultigraphForest() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "X", "Y", "Z"),
+            Arrays.asList(
+                new Edge("A", "B", 9),
+                new Edge("B", "A", 2),
+                new Edge("A", "A", -5),
+                new Edge("B", "C", 3),
+                new Edge("X", "Y", Integer.MAX_VALUE)
+            )
+        );
+
+        Result result = PrimDense.computeMST(graph, new Metrics());
+
+        assertEquals(3, result.getMstEdges().size(), "Two trees plus isolated Z");
+        assertTrue(result.getMstEdges().contains(graph.getEdges().get(1)), "Lighter parallel edge is used");
+        assertTrue(result.getMstEdges().contains(graph.getEdges().get(4)), "MAX_VALUE weight is not the sentinel");
+    }
+
+    @Test
+    @DisplayName("Raw matrix API returns parent links")
+    public void testSpanningParents() {
+        int x = -1;
+        int[] matrix = {
+            x, 4, 1, x,
+            4, x, 2, x,
+            1, 2, x, x,
+            x, x, x, x
+        };
+
+        int[] parent = PrimDense.spanningParents(matrix, 4, x, new Metrics());
+
+        assertArrayEquals(new int[]{-1, 2, 0, -1}, parent);
+        assertThrows(IllegalArgumentException.class,
+            () -> PrimDense.spanningParents(new int[5], 2, x, new Metrics()));
+    }
+
+    @Test
+    @DisplayName("Empty graph")
+    public void testEmptyGraph() {
+        Result result = PrimDense.computeMST(
+            new Graph(Collections.emptyList(), Collections.emptyList()), new Metrics());
+
+        assertEquals(0, result.getTotalCost());
+        assertEquals(0, result.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Random complete graphs: same cost as packed Kruskal")
+    public void testRandomCompleteGraphs() {
+        Random random = new Random(23);
+
+        for (int round = 0; round < 10; round++) {
+            CsrGraph graph = new CsrGraph(completeGraph(random, 2 + random.nextInt(80), 1 + random.nextInt(1000)));
+
+            Result expected = KruskalPacked.computeMST(graph, new Metrics());
+            Result actual = PrimDense.computeMST(graph, new Metrics());
+
+            assertEquals(expected.getTotalCost(), actual.getTotalCost());
+            assertEquals(expected.getMstEdges().size(), actual.getMstEdges().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Planner picks the matrix Prim only for dense graphs")
+    public void testSelector() {
+        CsrGraph dense = new CsrGraph(completeGraph(new Random(1), 50, 100));
+        CsrGraph sparse = new CsrGraph(new Graph(
+            Arrays.asList("A", "B", "C", "D", "E", "F"),
+            Arrays.asList(new Edge("A", "B", 1), new Edge("C", "D", 1))
+        ));
+
+        assertEquals(Algorithm.PRIM_DENSE, Planner.plan(dense).getAlgorithm());
+        assertNotEquals(Algorithm.PRIM_DENSE, Planner.plan(sparse).getAlgorithm());
+        assertFalse(PrimDense.isDense(PrimDense.MAX_VERTICES + 1, Long.MAX_VALUE), "Matrix would be too large");
+        assertTrue(PrimDense.isDense(PrimDense.MAX_VERTICES, Long.MAX_VALUE));
+        assertEquals(Algorithm.PRIM_DENSE, Algorithm.fromName("prim-dense"));
+    }
+}
@@ -0,0 +1,134 @@
+package org.example;
+
+import org.example.algo.Algorithm;
+import org.example.algo.Kruskal;
+import org.example.algo.PrimBinaryHeap;
+import org.example.algo.PrimIndexedHeap;
+import org.example.algo.Result;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for heap-based Prim (lazy binary heap and indexed d-ary heap).
+ */
+@DisplayName("Heap Prim Algorithm Tests")
+public class PrimHeapTest {
+
+    private void assertBothHeaps(Graph graph, int expectedCost, int expectedEdges) {
+        Result binary = PrimBinaryHeap.computeMST(graph, new Metrics());
+        Result indexed = PrimIndexedHeap.computeMST(graph, new Metrics());
+
+        assertEquals(expectedCost, binary.getTotalCost(), "Binary heap Prim cost");
+        assertEquals(expectedEdges, binary.getMstEdges().size(), "Binary heap Prim edge count");
+        assertEquals(expectedCost, indexed.getTotalCost(), "Indexed heap Prim cost");
+        assertEquals(expectedEdges, indexed.getMstEdges().size(), "Indexed heap Prim edge count");
+    }
+
+    @Test
+    @DisplayName("Example Graph 1 (5 vertices, 7 edges)")
+    public void testExampleGraph1() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D", "E"),
+            Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+            )
+        );
+
+        assertBothHeaps(graph, 16, 4);
+    }
+
+    @Test
+    @DisplayName("Three component disconnected graph")
+    public void testThreeComponents() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C", "D", "E", "F", "G"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("C", "D", 2),
+                new Edge("E", "F", 3)
+            )
+        );
+
+        assertBothHeaps(graph, 6, 3);
+    }
+
+    @Test
+    @DisplayName("Parallel edges and self-loop")
+    public void testParallelEdgesAndSelfLoop() {
+        Graph graph = new Graph(
+            Arrays.asList("A", "B", "C"),
+            Arrays.asList(
+                new Edge("A", "B", 5),
+                new Edge("A", "B", 1),
+                new Edge("B", "B", 0),
+                new Edge("B", "C", 2),
+                new Edge("A", "C", 4)
+            )
+        );
+
+        assertBothHeaps(graph, 3, 2);
+    }
+
+    @Test
+    @DisplayName("Empty graph")
+    public void testEmptyGraph() {
+        assertBothHeaps(new Graph(Collections.emptyList(), Collections.emptyList()), 0, 0);
+    }
+
+    @Test
+    @DisplayName("Random graphs: heap Prim matches Kruskal")
+    public void testRandomGraphsMatchKruskal() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 20; round++) {
+            int n = 1 + random.nextInt(60);
+            int m = random.nextInt(n * 3 + 1);
+
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                nodes.add("v" + i);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < m; i++) {
+                edges.add(new Edge("v" + random.nextInt(n), "v" + random.nextInt(n), random.nextInt(20) - 5));
+            }
+            CsrGraph graph = new CsrGraph(new Graph(nodes, edges));
+
+            Result expected = Kruskal.computeMST(graph, new Metrics());
+            for (int arity = 2; arity <= 8; arity *= 2) {
+                Result indexed = PrimIndexedHeap.computeMST(graph, new Metrics(), arity);
+                assertEquals(expected.getTotalCost(), indexed.getTotalCost());
+                assertEquals(expected.getMstEdges().size(), indexed.getMstEdges().size());
+            }
+            Result binary = PrimBinaryHeap.computeMST(graph, new Metrics());
+            assertEquals(expected.getTotalCost(), binary.getTotalCost());
+            assertEquals(expected.getMstEdges().size(), binary.getMstEdges().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Algorithms are selectable by name")
+    public void testSelectByName() {
+        assertEquals(Algorithm.PRIM_BINARY_HEAP, Algorithm.fromName("prim-heap"));
+        assertEquals(Algorithm.PRIM_INDEXED_HEAP, Algorithm.fromName("prim-dheap"));
+        assertThrows(IllegalArgumentException.class, () -> Algorithm.fromName("nope"));
+    }
+}
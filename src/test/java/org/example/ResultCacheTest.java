@@ -0,0 +1,126 @@
+package org.example;
+
+import org.example.algo.Kruskal;
+import org.example.algo.Result;
+import org.example.cache.GraphHash;
+import org.example.cache.ResultCache;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.util.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the canonical graph hash and the two-tier result cache.
+ */
+@DisplayName("Result Cache Tests")
+public class ResultCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Graph exampleGraph() {
+        return new Graph(
+            Arrays.asList("A", "B", "C", "D"),
+            Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("C", "D", 3),
+                new Edge("A", "C", 4)
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("Hash ignores node order, edge order and endpoint order")
+    public void testCanonicalHash() {
+        Graph reordered = new Graph(
+            Arrays.asList("D", "C", "B", "A"),
+            Arrays.asList(
+                new Edge("C", "A", 4),
+                new Edge("D", "C", 3),
+                new Edge("A", "B", 1),
+                new Edge("C", "B", 2)
+            )
+        );
+
+        String hash = GraphHash.of(exampleGraph());
+        assertEquals(64, hash.length());
+        assertEquals(hash, GraphHash.of(reordered));
+    }
+
+    @Test
+    @DisplayName("Hash changes with any weight, edge or vertex")
+    public void testHashSensitivity() {
+        String hash = GraphHash.of(exampleGraph());
+
+        Graph reweighted = new Graph(exampleGraph().getNodes(), Arrays.asList(
+            new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("C", "D", 3), new Edge("A", "C", 5)));
+        Graph rewired = new Graph(exampleGraph().getNodes(), Arrays.asList(
+            new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("C", "D", 3), new Edge("A", "D", 4)));
+        Graph extraVertex = new Graph(Arrays.asList("A", "B", "C", "D", "E"), exampleGraph().getEdges());
+
+        assertNotEquals(hash, GraphHash.of(reweighted));
+        assertNotEquals(hash, GraphHash.of(rewired));
+        assertNotEquals(hash, GraphHash.of(extraVertex));
+    }
+
+    @Test
+    @DisplayName("Memory tier evicts the least recently used entry")
+    public void testLruEviction() throws IOException {
+        ResultCache<Result> cache = new ResultCache<>(2, null, Result.class);
+        Result result = Kruskal.computeMST(exampleGraph(), new Metrics());
+
+        cache.put("aa", result);
+        cache.put("bb", result);
+        assertSame(result, cache.get("aa"));   // "bb" is now least recently used
+        cache.put("cc", result);
+
+        assertNull(cache.get("bb"));
+        assertSame(result, cache.get("aa"));
+        assertSame(result, cache.get("cc"));
+        assertEquals(3, cache.getMemoryHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Disk tier survives a new cache instance")
+    public void testDiskTier() throws IOException {
+        Graph graph = exampleGraph();
+        String key = GraphHash.of(graph);
+        Result result = Kruskal.computeMST(graph, new Metrics());
+
+        new ResultCache<>(0, tempDir, Result.class).put(key, result);
+        assertTrue(Files.exists(tempDir.resolve(key + ".json")));
+
+        ResultCache<Result> reopened = new ResultCache<>(4, tempDir, Result.class);
+        Result loaded = reopened.get(key);
+        assertNotNull(loaded);
+        assertEquals(result.getTotalCost(), loaded.getTotalCost());
+        assertEquals(result.getMstEdges().size(), loaded.getMstEdges().size());
+        assertEquals(result.getMstEdges().get(0).w, loaded.getMstEdges().get(0).w);
+        assertEquals(1, reopened.getDiskHits());
+
+        // Promoted into memory on the first hit
+        assertSame(loaded, reopened.get(key));
+        assertEquals(1, reopened.getMemoryHits());
+    }
+
+    @Test
+    @DisplayName("Corrupt disk entry counts as a miss; non-hex keys are rejected")
+    public void testCorruptEntryAndBadKey() throws IOException {
+        Files.writeString(tempDir.resolve("abcd.json"), "{not json");
+        ResultCache<Result> cache = new ResultCache<>(4, tempDir, Result.class);
+
+        assertNull(cache.get("abcd"));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("../etc"));
+    }
+}
@@ -0,0 +1,40 @@
+package org.example;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared random graph fixtures for the engine cross-check tests.
+ */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    /**
+     * n vertices named v0..v(n-1) and m random edges (self-loops and
+     * parallel edges allowed) with weights uniform in [minWeight, maxWeight].
+     */
+    static Graph randomGraph(Random random, int n, int m, int minWeight, int maxWeight) {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            nodes.add("v" + i);
+        }
+
+        long range = (long) maxWeight - minWeight + 1;
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            String u = "v" + random.nextInt(n);
+            String v = "v" + random.nextInt(n);
+            int w = range <= Integer.MAX_VALUE
+                ? minWeight + random.nextInt((int) range)
+                : (int) (minWeight + (long) (random.nextDouble() * range));
+            edges.add(new Edge(u, v, w));
+        }
+        return new Graph(nodes, edges);
+    }
+}
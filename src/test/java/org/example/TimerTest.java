@@ -0,0 +1,94 @@
+package org.example;
+
+import org.example.util.Measurement;
+import org.example.util.Timed;
+import org.example.util.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the timing harness.
+ */
+@DisplayName("Timer Tests")
+public class TimerTest {
+
+    @Test
+    @DisplayName("Warmup runs are executed but not measured")
+    public void testWarmupAndRuns() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Measurement measurement = Timer.measure(calls::incrementAndGet, 3, 7);
+
+        assertEquals(10, calls.get(), "3 warmup + 7 measured runs");
+        assertEquals(3, measurement.getWarmupRuns());
+        assertEquals(7, measurement.getRuns());
+    }
+
+    @Test
+    @DisplayName("Percentiles are ordered")
+    public void testPercentilesOrdered() {
+        Measurement measurement = Timer.measure(() -> {
+            long sum = 0;
+            for (int i = 0; i < 10_000; i++) {
+                sum += i;
+            }
+            if (sum < 0) {
+                throw new IllegalStateException();
+            }
+        }, 1, 20);
+
+        assertTrue(measurement.getMinMs() <= measurement.getMedianMs());
+        assertTrue(measurement.getMedianMs() <= measurement.getP90Ms());
+        assertTrue(measurement.getP90Ms() <= measurement.getP99Ms());
+        assertTrue(measurement.getP99Ms() <= measurement.getMaxMs());
+        assertTrue(measurement.getGcCount() >= 0);
+    }
+
+    @Test
+    @DisplayName("Allocation per run is reported")
+    public void testAllocation() {
+        Measurement measurement = Timer.measure(() -> {
+            byte[] block = new byte[1 << 20];
+            block[0] = 1;
+        }, 0, 5);
+
+        if (measurement.getAllocatedBytesPerRun() >= 0) {
+            assertTrue(measurement.getAllocatedBytesPerRun() >= 1 << 20,
+                "Each run allocates at least 1 MiB");
+        }
+    }
+
+    @Test
+    @DisplayName("Non-positive run count is rejected")
+    public void testInvalidRuns() {
+        assertThrows(IllegalArgumentException.class, () -> Timer.measure(() -> { }, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Result comes from the measured runs, with no extra run")
+    public void testResultFromMeasuredRuns() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Timed<String> timed = Timer.measure(() -> {
+            calls.incrementAndGet();
+            return "mst";
+        }, 2, 5, String::equals);
+
+        assertEquals(7, calls.get(), "2 warmup + 5 measured runs, nothing else");
+        assertEquals("mst", timed.getResult());
+        assertEquals(5, timed.getMeasurement().getRuns());
+    }
+
+    @Test
+    @DisplayName("Measured runs that disagree are reported")
+    public void testDisagreementDetected() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class,
+            () -> Timer.measure(calls::incrementAndGet, 0, 3, Integer::equals));
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.algo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DSU find/union strategy combinations. Kept in the algo package
+ * so the deep-path test can link roots without the union heuristic.
+ */
+@DisplayName("DSU Strategy Tests")
+public class DSUTest {
+
+    @Test
+    @DisplayName("Default strategy is path compression with union by size")
+    public void testDefaults() {
+        DSU dsu = new DSU(3);
+
+        assertEquals(DSU.FindStrategy.COMPRESSION, dsu.getFindStrategy());
+        assertEquals(DSU.UnionStrategy.SIZE, dsu.getUnionStrategy());
+    }
+
+    @Test
+    @DisplayName("All strategy combinations produce the same partition")
+    public void testStrategiesAgree() {
+        int n = 2_000;
+        Random random = new Random(17);
+        int[][] pairs = new int[3_000][2];
+        for (int[] pair : pairs) {
+            pair[0] = random.nextInt(n);
+            pair[1] = random.nextInt(n);
+        }
+
+        DSU reference = new DSU(n);
+        boolean[] expectedMerges = new boolean[pairs.length];
+        for (int i = 0; i < pairs.length; i++) {
+            expectedMerges[i] = reference.union(pairs[i][0], pairs[i][1]);
+        }
+
+        for (DSU.FindStrategy find : DSU.FindStrategy.values()) {
+            for (DSU.UnionStrategy union : DSU.UnionStrategy.values()) {
+                DSU dsu = new DSU(n, find, union);
+                for (int i = 0; i < pairs.length; i++) {
+                    assertEquals(expectedMerges[i], dsu.union(pairs[i][0], pairs[i][1]),
+                        find + "/" + union + " disagrees at union " + i);
+                }
+                for (int[] pair : pairs) {
+                    assertEquals(reference.find(pair[0]) == reference.find(pair[1]),
+                        dsu.find(pair[0]) == dsu.find(pair[1]));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Find on a million-node path does not overflow the stack")
+    public void testNoStackOverflow() {
+        int n = 1_000_000;
+
+        for (DSU.FindStrategy find : DSU.FindStrategy.values()) {
+            // Union by rank keeps trees shallow, so link roots directly
+            // into one path 0 -> 1 -> ... -> n-1 before the first find
+            DSU dsu = new DSU(n, find, DSU.UnionStrategy.RANK);
+            for (int i = 1; i < n; i++) {
+                dsu.link(i - 1, i);
+            }
+            assertEquals(n - 1, dsu.find(0));
+            assertEquals(n - 1, dsu.find(n / 2));
+        }
+    }
+}